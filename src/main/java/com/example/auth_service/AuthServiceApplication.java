@@ -5,7 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.PropertySource;
 
 @SpringBootApplication
-@PropertySource("classpath:application.env")
+@PropertySource(value = "classpath:application.env", ignoreResourceNotFound = true)
 public class AuthServiceApplication {
 
 	public static void main(String[] args) {
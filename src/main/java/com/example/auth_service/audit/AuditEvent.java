@@ -0,0 +1,8 @@
+package com.example.auth_service.audit;
+
+public record AuditEvent(
+        AuditEventType type,
+        Long userId,
+        long occurredAt // epoch millis
+) {
+}
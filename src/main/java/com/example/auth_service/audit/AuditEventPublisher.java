@@ -0,0 +1,77 @@
+package com.example.auth_service.audit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Request-side entry point of the audit pipeline. Publishing only enqueues
+ * into {@link AuditRingBuffer}; persistence happens on the
+ * {@link AuditEventWriter} thread.
+ */
+@Component
+public class AuditEventPublisher {
+
+    private final AuditProperties properties;
+    private final AuditRingBuffer buffer;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile Thread consumer;
+
+    public AuditEventPublisher(AuditProperties properties) {
+        this.properties = properties;
+        this.buffer = new AuditRingBuffer(properties.getCapacity());
+    }
+
+    public void publish(AuditEventType type, Long userId) {
+        if (!properties.isEnabled() || userId == null) {
+            return;
+        }
+
+        AuditEvent event = new AuditEvent(type, userId, System.currentTimeMillis());
+
+        if (buffer.offer(event)) {
+            return;
+        }
+
+        wakeConsumer();
+
+        if (properties.getOverflowPolicy() == AuditOverflowPolicy.BLOCK && offerBlocking(event)) {
+            return;
+        }
+
+        dropped.incrementAndGet();
+    }
+
+    private boolean offerBlocking(AuditEvent event) {
+        long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            if (buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void wakeConsumer() {
+        Thread thread = consumer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    AuditRingBuffer buffer() {
+        return buffer;
+    }
+
+    void attachConsumer(Thread thread) {
+        this.consumer = thread;
+    }
+}
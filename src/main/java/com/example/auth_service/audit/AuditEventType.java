@@ -0,0 +1,12 @@
+package com.example.auth_service.audit;
+
+public enum AuditEventType {
+    LOGIN,
+    OAUTH2_LOGIN,
+    REFRESH,
+    LOGOUT;
+
+    public boolean isLogin() {
+        return this == LOGIN || this == OAUTH2_LOGIN;
+    }
+}
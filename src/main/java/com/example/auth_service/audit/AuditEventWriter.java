@@ -0,0 +1,170 @@
+package com.example.auth_service.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single consumer of the audit ring buffer. Events are written with one JDBC
+ * batch insert per flush, and {@code users.last_login} is updated at most once
+ * per user per flush.
+ */
+@Slf4j
+@Component
+public class AuditEventWriter implements SmartLifecycle {
+
+    static final String INSERT_EVENT =
+            "INSERT INTO audit_events (event_type, user_id, occurred_at) VALUES (?, ?, ?)";
+
+    static final String UPDATE_LAST_LOGIN =
+            "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final AuditEventPublisher publisher;
+    private final AuditProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final List<AuditEvent> pending;
+    private final Map<Long, Long> lastLogins = new HashMap<>();
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public AuditEventWriter(
+            AuditEventPublisher publisher,
+            AuditProperties properties,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.publisher = publisher;
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.pending = new ArrayList<>(properties.getBatchSize());
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "audit-writer");
+        thread.setDaemon(true);
+        publisher.attachConsumer(thread);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        publisher.attachConsumer(null);
+        thread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before and stops after the web server (graceful shutdown runs at
+     * {@code DEFAULT_PHASE - 1024}, server stop at {@code DEFAULT_PHASE - 2048}),
+     * so events from in-flight requests are still drained.
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        int batchSize = properties.getBatchSize();
+        long flushIntervalMillis = properties.getFlushInterval().toMillis();
+
+        while (running) {
+            int drained = drain();
+
+            if (pending.isEmpty()) {
+                if (drained == 0) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis));
+                }
+                continue;
+            }
+
+            // the interval starts when the oldest pending event was published,
+            // so no event waits longer than flush-interval for its batch
+            long remainingMillis = pending.get(0).occurredAt() + flushIntervalMillis - System.currentTimeMillis();
+
+            if (pending.size() >= batchSize || remainingMillis <= 0) {
+                flush();
+            } else if (drained == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(Math.min(remainingMillis, flushIntervalMillis)));
+            }
+        }
+
+        // drain whatever was published before shutdown
+        while (drain() > 0) {
+            flush();
+        }
+        flush();
+    }
+
+    int drain() {
+        return publisher.buffer().drain(pending::add, properties.getBatchSize() - pending.size());
+    }
+
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        for (AuditEvent event : pending) {
+            if (event.type().isLogin()) {
+                lastLogins.merge(event.userId(), event.occurredAt(), Math::max);
+            }
+        }
+
+        List<Object[]> loginUpdates = new ArrayList<>(lastLogins.size());
+        lastLogins.forEach((userId, occurredAt) -> {
+            Timestamp at = new Timestamp(occurredAt);
+            loginUpdates.add(new Object[]{at, userId, at});
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_EVENT, pending, pending.size(), (ps, event) -> {
+                    ps.setString(1, event.type().name());
+                    ps.setLong(2, event.userId());
+                    ps.setTimestamp(3, new Timestamp(event.occurredAt()));
+                });
+                if (!loginUpdates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, loginUpdates);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to persist {} audit events", pending.size(), e);
+        } finally {
+            pending.clear();
+            lastLogins.clear();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.auth_service.audit;
+
+public enum AuditOverflowPolicy {
+    /** Discard the event and count it as dropped. */
+    DROP,
+    /** Wait up to {@code audit.block-timeout} for free space, then drop. */
+    BLOCK
+}
@@ -0,0 +1,24 @@
+package com.example.auth_service.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    /** Ring buffer size, rounded up to the next power of two. */
+    private int capacity = 8192;
+
+    private int batchSize = 256;
+
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    private AuditOverflowPolicy overflowPolicy = AuditOverflowPolicy.DROP;
+
+    private Duration blockTimeout = Duration.ofMillis(5);
+}
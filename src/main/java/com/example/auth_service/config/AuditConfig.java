@@ -0,0 +1,22 @@
+package com.example.auth_service.config;
+
+import com.example.auth_service.audit.AuditEventPublisher;
+import com.example.auth_service.audit.AuditProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditConfig {
+
+    @Bean
+    public MeterBinder auditMetrics(AuditEventPublisher auditEventPublisher) {
+        return registry -> FunctionCounter
+                .builder("audit.events.dropped", auditEventPublisher, AuditEventPublisher::getDroppedCount)
+                .description("Audit events discarded because the buffer was full")
+                .register(registry);
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.auth_service.config;
+
+import com.example.auth_service.security.CachingOAuth2UserService;
+import com.example.auth_service.security.OAuth2HttpProperties;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.observation.ClientHttpObservationDocumentation;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.endpoint.RestClientAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Shared, connection-pooled HTTP client for every call to an OAuth2 provider
+ * (token exchange and user-info). Request latency is recorded by the
+ * builders' {@code http.client.requests} observation; pool usage is exported
+ * as {@code oauth2.http.pool.*} gauges.
+ */
+@Configuration
+@EnableConfigurationProperties(OAuth2HttpProperties.class)
+public class OAuth2ClientConfig {
+
+    private static final String HTTP_CLIENT_REQUESTS = "http.client.requests";
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager oauth2ConnectionManager(OAuth2HttpProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout().toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(properties.getResponseTimeout().toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient oauth2HttpClient(
+            PoolingHttpClientConnectionManager oauth2ConnectionManager,
+            OAuth2HttpProperties properties
+    ) {
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(properties.getKeepAlive().toMillis());
+
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            TimeValue advertised = DefaultConnectionKeepAliveStrategy.INSTANCE
+                    .getKeepAliveDuration(response, context);
+            return TimeValue.isPositive(advertised) && advertised.compareTo(maxKeepAlive) < 0
+                    ? advertised
+                    : maxKeepAlive;
+        };
+
+        return HttpClients.custom()
+                .setConnectionManager(oauth2ConnectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(
+                                Timeout.ofMilliseconds(properties.getConnectionRequestTimeout().toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(properties.getResponseTimeout().toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(maxKeepAlive)
+                .build();
+    }
+
+    @Bean
+    public CachingOAuth2UserService oauth2UserInfoClient(
+            CloseableHttpClient oauth2HttpClient,
+            RestTemplateBuilder restTemplateBuilder,
+            OAuth2HttpProperties properties
+    ) {
+        RestTemplate restTemplate = restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(oauth2HttpClient))
+                .errorHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+        restTemplate.setObservationConvention(new PathTaggingObservationConvention());
+
+        DefaultOAuth2UserService userService = new DefaultOAuth2UserService();
+        userService.setRestOperations(restTemplate);
+
+        return new CachingOAuth2UserService(
+                userService,
+                properties.getUserInfoCacheTtl(),
+                properties.getUserInfoCacheMaxSize()
+        );
+    }
+
+    @Bean
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> oauth2AccessTokenResponseClient(
+            CloseableHttpClient oauth2HttpClient,
+            RestClient.Builder restClientBuilder
+    ) {
+        RestClient restClient = restClientBuilder
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(oauth2HttpClient))
+                .messageConverters(converters -> {
+                    converters.clear();
+                    converters.add(new FormHttpMessageConverter());
+                    converters.add(new OAuth2AccessTokenResponseHttpMessageConverter());
+                })
+                .defaultStatusHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+
+        RestClientAuthorizationCodeTokenResponseClient client = new RestClientAuthorizationCodeTokenResponseClient();
+        client.setRestClient(restClient);
+        return client;
+    }
+
+    @Bean
+    public MeterBinder oauth2ConnectionPoolMetrics(PoolingHttpClientConnectionManager oauth2ConnectionManager) {
+        return registry -> {
+            gauge(registry, "oauth2.http.pool.leased", oauth2ConnectionManager, PoolStats::getLeased);
+            gauge(registry, "oauth2.http.pool.available", oauth2ConnectionManager, PoolStats::getAvailable);
+            gauge(registry, "oauth2.http.pool.pending", oauth2ConnectionManager, PoolStats::getPending);
+            gauge(registry, "oauth2.http.pool.max", oauth2ConnectionManager, PoolStats::getMax);
+        };
+    }
+
+    /**
+     * {@code DefaultOAuth2UserService} sends user-info requests without a URI
+     * template, which the default convention tags as {@code uri=none}. The
+     * provider's user-info path is fixed, so it is safe to tag with instead.
+     */
+    static final class PathTaggingObservationConvention extends DefaultClientRequestObservationConvention {
+
+        PathTaggingObservationConvention() {
+            super(HTTP_CLIENT_REQUESTS);
+        }
+
+        @Override
+        protected KeyValue uri(ClientRequestObservationContext context) {
+            if (context.getUriTemplate() == null && context.getCarrier() != null) {
+                return KeyValue.of(ClientHttpObservationDocumentation.LowCardinalityKeyNames.URI,
+                        context.getCarrier().getURI().getPath());
+            }
+            return super.uri(context);
+        }
+    }
+
+    private static void gauge(
+            MeterRegistry registry,
+            String name,
+            PoolingHttpClientConnectionManager connectionManager,
+            ToDoubleFunction<PoolStats> stat
+    ) {
+        Gauge.builder(name, connectionManager, cm -> stat.applyAsDouble(cm.getTotalStats()))
+                .register(registry);
+    }
+}
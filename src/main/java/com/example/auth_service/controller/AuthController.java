@@ -1,5 +1,7 @@
 package com.example.auth_service.controller;
 
+import com.example.auth_service.audit.AuditEventPublisher;
+import com.example.auth_service.audit.AuditEventType;
 import com.example.auth_service.dto.*;
 import com.example.auth_service.model.RefreshToken;
 import com.example.auth_service.model.User;
@@ -19,6 +21,7 @@ public class AuthController {
     private final AuthService authService;
     private final RefreshTokenService refreshTokenService;
     private final JwtProvider jwtProvider;
+    private final AuditEventPublisher auditEventPublisher;
 
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.CREATED)
@@ -40,9 +43,11 @@ public class AuthController {
 
         String newAccessToken = jwtProvider.generateToken(user);
 
+        auditEventPublisher.publish(AuditEventType.REFRESH, user.getId());
+
         return new LoginResponse(
                 newAccessToken,
-                refreshToken.getToken(),
+                request.refreshToken(),
                 "Bearer"
         );
     }
@@ -20,13 +20,19 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true, nullable = false)
+    /** SHA-256 of the token; the raw value is never stored. */
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    /** Raw token, only populated on freshly issued tokens. */
+    @Transient
     private String token;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    @Column(nullable = false)
     private Instant expiryDate;
 
     @Builder.Default
@@ -0,0 +1,32 @@
+package com.example.auth_service.reactive;
+
+import com.example.auth_service.config.PasswordConfig;
+import com.example.auth_service.security.JwtProvider;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Non-blocking (WebFlux + R2DBC) build of the auth API. Only this package is
+ * scanned; token handling and password encoding are shared with the servlet
+ * application. Start it with {@code ./mvnw -Preactive spring-boot:run}.
+ */
+@Configuration
+@Profile("reactive")
+@EnableAutoConfiguration
+@ComponentScan(basePackageClasses = ReactiveAuthServiceApplication.class)
+@Import({JwtProvider.class, PasswordConfig.class})
+public class ReactiveAuthServiceApplication {
+
+	public static void main(String[] args) {
+		SpringApplication application = new SpringApplication(ReactiveAuthServiceApplication.class);
+		application.setWebApplicationType(WebApplicationType.REACTIVE);
+		application.setAdditionalProfiles("reactive");
+		application.run(args);
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.example.auth_service.reactive.controller;
+
+import com.example.auth_service.dto.*;
+import com.example.auth_service.reactive.security.ReactiveJwtAuthenticationEntryPoint;
+import com.example.auth_service.reactive.service.ReactiveAuthService;
+import com.example.auth_service.reactive.service.ReactiveRefreshTokenService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService authService;
+    private final ReactiveRefreshTokenService refreshTokenService;
+    private final ReactiveJwtAuthenticationEntryPoint authenticationEntryPoint;
+
+    @PostMapping("/register")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Void> register(@RequestBody @Valid RegisterRequest request) {
+        return authService.register(request);
+    }
+
+    @PostMapping("/login")
+    public Mono<LoginResponse> login(@RequestBody @Valid LoginRequest request) {
+        return authService.login(request);
+    }
+
+    @PostMapping("/refresh")
+    public Mono<LoginResponse> refresh(@RequestBody @Valid RefreshTokenRequest request) {
+        return authService.refresh(request.refreshToken());
+    }
+
+    @PostMapping("/logout")
+    public Mono<Void> logout(@RequestBody @Valid LogoutRequest request) {
+        return refreshTokenService.revokeRefreshToken(request.refreshToken());
+    }
+
+    /**
+     * Failed logins answer 401 through the entry point, as on the servlet
+     * stack; WebFlux security would otherwise turn them into a 500.
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    public Mono<Void> handleAuthenticationException(AuthenticationException e, ServerWebExchange exchange) {
+        return authenticationEntryPoint.commence(exchange, e);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.auth_service.reactive.controller;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/users")
+public class ReactiveUserController {
+
+    @GetMapping("/me")
+    public Mono<String> me(@AuthenticationPrincipal UserDetails user) {
+        return Mono.just("Hello " + user.getUsername());
+    }
+}
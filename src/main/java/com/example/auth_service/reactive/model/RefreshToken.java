@@ -0,0 +1,35 @@
+package com.example.auth_service.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Table("refresh_tokens")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    private Long id;
+
+    private String tokenHash;
+
+    /** Raw token, only populated on freshly issued tokens. */
+    @Transient
+    private String token;
+
+    private Long userId;
+
+    private Instant expiryDate;
+
+    @Builder.Default
+    private boolean revoked = false;
+}
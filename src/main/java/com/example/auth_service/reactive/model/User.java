@@ -0,0 +1,32 @@
+package com.example.auth_service.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Table("users")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class User {
+
+    @Id
+    private Long id;
+
+    private String email;
+
+    private String password;
+
+    private String fullName;
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    private Instant lastLogin;
+}
@@ -0,0 +1,19 @@
+package com.example.auth_service.reactive.repository;
+
+import com.example.auth_service.reactive.model.RefreshToken;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRefreshTokenRepository extends ReactiveCrudRepository<RefreshToken, Long> {
+    Mono<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM refresh_tokens WHERE user_id = :userId")
+    Mono<Integer> deleteAllByUserId(Long userId);
+
+    @Modifying
+    @Query("UPDATE refresh_tokens SET revoked = TRUE WHERE token_hash = :tokenHash")
+    Mono<Integer> revokeByTokenHash(String tokenHash);
+}
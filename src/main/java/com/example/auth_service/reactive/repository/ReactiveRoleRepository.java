@@ -0,0 +1,9 @@
+package com.example.auth_service.reactive.repository;
+
+import com.example.auth_service.reactive.model.Role;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRoleRepository extends ReactiveCrudRepository<Role, Long> {
+    Mono<Role> findByName(String name);
+}
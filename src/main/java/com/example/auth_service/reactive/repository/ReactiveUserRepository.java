@@ -0,0 +1,20 @@
+package com.example.auth_service.reactive.repository;
+
+import com.example.auth_service.reactive.model.User;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepository extends ReactiveCrudRepository<User, Long> {
+    Mono<User> findByEmail(String email);
+    Mono<Boolean> existsByEmail(String email);
+
+    @Query("SELECT r.name FROM roles r JOIN user_roles ur ON ur.role_id = r.id WHERE ur.user_id = :userId")
+    Flux<String> findRoleNamesByUserId(Long userId);
+
+    @Modifying
+    @Query("INSERT INTO user_roles (user_id, role_id) VALUES (:userId, :roleId)")
+    Mono<Integer> addRole(Long userId, Long roleId);
+}
@@ -0,0 +1,37 @@
+package com.example.auth_service.reactive.security;
+
+import com.example.auth_service.reactive.repository.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveCustomUserDetailsService implements ReactiveUserDetailsService {
+
+    private final ReactiveUserRepository userRepository;
+
+    @Override
+    public Mono<UserDetails> findByUsername(String email) {
+        return userRepository.findByEmail(email)
+                .switchIfEmpty(Mono.error(() -> new UsernameNotFoundException("User not found with email: " + email)))
+                .flatMap(user -> userRepository.findRoleNamesByUserId(user.getId())
+                        .map(SimpleGrantedAuthority::new)
+                        .collectList()
+                        .map(authorities -> new org.springframework.security.core.userdetails.User(
+                                user.getEmail(),
+                                user.getPassword(),
+                                user.isEnabled(),
+                                true,
+                                true,
+                                true,
+                                authorities
+                        )));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.auth_service.reactive.security;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+@Profile("reactive")
+public class ReactiveJwtAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+
+    private static final byte[] BODY = """
+                 {
+                    "error": "Unauthorized",
+                    "message": "Authentication is required to access this resource"
+                 }
+            """.getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer buffer = response.bufferFactory().wrap(BODY);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.auth_service.reactive.security;
+
+import com.example.auth_service.security.JwtProvider;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Reactive counterpart of {@link com.example.auth_service.security.JwtAuthenticationFilter}.
+ * Signature checks are pure CPU work on the calling thread; the only I/O,
+ * loading the user, goes through R2DBC.
+ * <p>
+ * Not a bean on purpose: WebFlux would otherwise also register it as a global
+ * {@link WebFilter} outside the security chain.
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private final JwtProvider jwtProvider;
+    private final ReactiveUserDetailsService userDetailsService;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (exchange.getRequest().getPath().pathWithinApplication().value().startsWith("/api/auth/")) {
+            return chain.filter(exchange);
+        }
+
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        return jwtProvider.parseValidClaims(authHeader.substring(7))
+                .map(this::loadUserDetails)
+                .orElseGet(Mono::empty)
+                .map(userDetails -> ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                                userDetails,
+                                null,
+                                userDetails.getAuthorities()
+                        )))
+                .defaultIfEmpty(Context.empty())
+                .flatMap(context -> chain.filter(exchange).contextWrite(context));
+    }
+
+    private Mono<UserDetails> loadUserDetails(Claims claims) {
+        return jwtProvider.getTrustedUserDetails(claims)
+                .map(Mono::just)
+                .orElseGet(() -> userDetailsService.findByUsername(claims.getSubject())
+                        .onErrorResume(UsernameNotFoundException.class, e -> Mono.empty()));
+    }
+}
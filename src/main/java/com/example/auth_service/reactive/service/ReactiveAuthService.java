@@ -0,0 +1,111 @@
+package com.example.auth_service.reactive.service;
+
+import com.example.auth_service.dto.LoginRequest;
+import com.example.auth_service.dto.LoginResponse;
+import com.example.auth_service.dto.RegisterRequest;
+import com.example.auth_service.reactive.model.Role;
+import com.example.auth_service.reactive.model.User;
+import com.example.auth_service.reactive.repository.ReactiveRoleRepository;
+import com.example.auth_service.reactive.repository.ReactiveUserRepository;
+import com.example.auth_service.security.JwtProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAuthService {
+
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveRoleRepository roleRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler passwordHashingScheduler;
+    private final JwtProvider jwtProvider;
+    private final ReactiveRefreshTokenService refreshTokenService;
+
+    private volatile String userNotFoundEncodedPassword;
+
+    @Transactional
+    public Mono<Void> register(RegisterRequest request) {
+        return userRepository.existsByEmail(request.email())
+                .flatMap(exists -> exists
+                        ? Mono.<String>error(new IllegalArgumentException("Email already in use"))
+                        : Mono.fromCallable(() -> passwordEncoder.encode(request.password()))
+                                .subscribeOn(passwordHashingScheduler))
+                .flatMap(encoded -> userRepository.save(User.builder()
+                        .email(request.email())
+                        .password(encoded)
+                        .fullName(request.fullName())
+                        .build()))
+                .flatMap(user -> roleRepository.findByName("ROLE_USER")
+                        .switchIfEmpty(Mono.defer(() ->
+                                roleRepository.save(Role.builder().name("ROLE_USER").build())))
+                        .flatMap(role -> userRepository.addRole(user.getId(), role.getId())))
+                .then();
+    }
+
+    /**
+     * Same order as {@code DaoAuthenticationProvider}: the account status is
+     * checked before the password, and unknown emails still cost one BCrypt
+     * match so response times don't reveal which emails are registered.
+     */
+    public Mono<LoginResponse> login(LoginRequest request) {
+        return userRepository.findByEmail(request.email())
+                .switchIfEmpty(Mono.defer(() -> rejectUnknownUser(request.password())))
+                .flatMap(user -> user.isEnabled()
+                        ? Mono.just(user)
+                        : Mono.<User>error(new DisabledException("User is disabled")))
+                .filterWhen(user -> Mono.fromCallable(() ->
+                                passwordEncoder.matches(request.password(), user.getPassword()))
+                        .subscribeOn(passwordHashingScheduler))
+                .switchIfEmpty(Mono.error(() -> new BadCredentialsException("Bad credentials")))
+                .flatMap(this::issueTokens);
+    }
+
+    public Mono<LoginResponse> refresh(String token) {
+        return refreshTokenService.verifyRefreshToken(token)
+                .flatMap(refreshToken -> userRepository.findById(refreshToken.getUserId()))
+                .flatMap(user -> userRepository.findRoleNamesByUserId(user.getId())
+                        .collectList()
+                        .map(roles -> new LoginResponse(
+                                jwtProvider.generateToken(user.getEmail(), roles),
+                                token,
+                                "Bearer"
+                        )));
+    }
+
+    private Mono<User> rejectUnknownUser(String password) {
+        return Mono.fromCallable(() -> passwordEncoder.matches(password, userNotFoundPassword()))
+                .subscribeOn(passwordHashingScheduler)
+                .then(Mono.<User>error(new BadCredentialsException("Bad credentials")));
+    }
+
+    private String userNotFoundPassword() {
+        String encoded = userNotFoundEncodedPassword;
+        if (encoded == null) {
+            encoded = passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
+            userNotFoundEncodedPassword = encoded;
+        }
+        return encoded;
+    }
+
+    private Mono<LoginResponse> issueTokens(User user) {
+        return userRepository.findRoleNamesByUserId(user.getId())
+                .collectList()
+                .zipWith(refreshTokenService.createRefreshToken(user.getId()))
+                .map(tuple -> new LoginResponse(
+                        jwtProvider.generateToken(user.getEmail(), tuple.getT1()),
+                        tuple.getT2().getToken(),
+                        "Bearer"
+                ));
+    }
+}
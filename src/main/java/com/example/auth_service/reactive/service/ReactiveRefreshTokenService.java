@@ -0,0 +1,46 @@
+package com.example.auth_service.reactive.service;
+
+import com.example.auth_service.reactive.model.RefreshToken;
+import com.example.auth_service.reactive.repository.ReactiveRefreshTokenRepository;
+import com.example.auth_service.security.TokenHashing;
+import com.example.auth_service.service.RefreshTokenRules;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveRefreshTokenService {
+
+    private final ReactiveRefreshTokenRepository refreshTokenRepository;
+
+    @Transactional
+    public Mono<RefreshToken> createRefreshToken(Long userId) {
+        String token = UUID.randomUUID().toString();
+
+        RefreshToken refreshToken = RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(TokenHashing.hash(token))
+                .expiryDate(RefreshTokenRules.newExpiryDate())
+                .build();
+
+        return refreshTokenRepository.deleteAllByUserId(userId)
+                .then(refreshTokenRepository.save(refreshToken))
+                .doOnNext(saved -> saved.setToken(token));
+    }
+
+    public Mono<RefreshToken> verifyRefreshToken(String token) {
+        return refreshTokenRepository.findByTokenHash(TokenHashing.hash(token))
+                .switchIfEmpty(Mono.error(RefreshTokenRules::notFound))
+                .doOnNext(refreshToken -> RefreshTokenRules.checkUsable(refreshToken.isRevoked(), refreshToken.getExpiryDate()));
+    }
+
+    public Mono<Void> revokeRefreshToken(String token) {
+        return refreshTokenRepository.revokeByTokenHash(TokenHashing.hash(token)).then();
+    }
+}
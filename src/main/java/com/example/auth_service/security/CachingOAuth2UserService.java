@@ -0,0 +1,40 @@
+package com.example.auth_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.time.Duration;
+
+/**
+ * Short-lived cache of user-info responses, keyed by registration and a
+ * SHA-256 of the access token, in front of the pooled provider client.
+ */
+public class CachingOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
+
+    private final OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate;
+    private final Cache<String, OAuth2User> cache;
+
+    public CachingOAuth2UserService(
+            OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate,
+            Duration ttl,
+            long maxSize
+    ) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
+        String key = userRequest.getClientRegistration().getRegistrationId()
+                + ':' + TokenHashing.hash(userRequest.getAccessToken().getTokenValue());
+
+        return cache.get(key, k -> delegate.loadUser(userRequest));
+    }
+}
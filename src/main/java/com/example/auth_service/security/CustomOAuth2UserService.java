@@ -5,7 +5,6 @@ import com.example.auth_service.model.User;
 import com.example.auth_service.repository.RoleRepository;
 import com.example.auth_service.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -23,11 +22,12 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
+    private final CachingOAuth2UserService oauth2UserInfoClient;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
 
-        OAuth2User oauth2User = new DefaultOAuth2UserService().loadUser(userRequest);
+        OAuth2User oauth2User = oauth2UserInfoClient.loadUser(userRequest);
 
         String registrationId = userRequest.getClientRegistration().getRegistrationId();
 
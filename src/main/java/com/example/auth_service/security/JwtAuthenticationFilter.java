@@ -1,5 +1,6 @@
 package com.example.auth_service.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -34,10 +36,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            if (jwtProvider.validate(token)) {
-                String email = jwtProvider.getEmailFromToken(token);
+            Optional<Claims> claims = jwtProvider.parseValidClaims(token);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            if (claims.isPresent()) {
+                UserDetails userDetails = loadUserDetails(claims.get());
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -58,6 +60,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails loadUserDetails(Claims claims) {
+        return jwtProvider.getTrustedUserDetails(claims)
+                .orElseGet(() -> userDetailsService.loadUserByUsername(claims.getSubject()));
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
@@ -2,51 +2,113 @@ package com.example.auth_service.security;
 
 import com.example.auth_service.model.Role;
 import com.example.auth_service.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtProvider {
 
+    static final String ROLES_CLAIM = "roles";
+    static final String ROLE_VERSION_CLAIM = "rv";
+    static final String ROLE_MASK_CLAIM = "rm";
+
     private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
     private final long jwtExpirationMs = 15 * 60 * 1000; // 15 menit
+    private final boolean compactClaims;
+    private final boolean trustTokenAuthorities;
+
+    public JwtProvider(
+            @Value("${jwt.compact-claims:false}") boolean compactClaims,
+            @Value("${jwt.trust-token-authorities:false}") boolean trustTokenAuthorities
+    ) {
+        this.compactClaims = compactClaims;
+        this.trustTokenAuthorities = trustTokenAuthorities;
+    }
 
     public String generateToken(User user) {
-        return Jwts.builder()
-                .setSubject(user.getEmail())
-                .claim("roles",
-                        user.getRoles().stream()
-                                .map(Role::getName)
-                                .collect(Collectors.toList())
-                )
+        return generateToken(
+                user.getEmail(),
+                user.getRoles().stream()
+                        .map(Role::getName)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    public String generateToken(String email, List<String> roles) {
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(email);
+
+        Optional<Long> roleMask = compactClaims ? RoleTable.encode(roles) : Optional.empty();
+        if (roleMask.isPresent()) {
+            builder.claim(ROLE_VERSION_CLAIM, RoleTable.VERSION)
+                    .claim(ROLE_MASK_CLAIM, roleMask.get());
+        } else {
+            builder.claim(ROLES_CLAIM, roles);
+        }
+
+        return builder
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
                 .signWith(key)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Authorities carried by a compact token, or empty when the token uses
+     * the role-name format or an unknown role table version.
+     */
+    public Optional<List<GrantedAuthority>> getCompactAuthorities(Claims claims) {
+        Integer version = claims.get(ROLE_VERSION_CLAIM, Integer.class);
+        Long mask = claims.get(ROLE_MASK_CLAIM, Long.class);
+        if (version == null || mask == null) {
+            return Optional.empty();
+        }
+        return RoleTable.decode(version, mask);
+    }
+
+    /**
+     * Principal built from the token alone, without a user lookup. Only
+     * available for compact tokens when {@code jwt.trust-token-authorities} is
+     * enabled; otherwise callers load the user so that deleted or disabled
+     * accounts and removed roles take effect before the token expires.
+     */
+    public Optional<UserDetails> getTrustedUserDetails(Claims claims) {
+        if (!trustTokenAuthorities) {
+            return Optional.empty();
+        }
+        return getCompactAuthorities(claims)
+                .map(authorities -> new org.springframework.security.core.userdetails.User(
+                        claims.getSubject(),
+                        "",
+                        authorities
+                ));
     }
 
-    public boolean validate(String token) {
+    public Optional<Claims> parseValidClaims(String token) {
         try {
-            getEmailFromToken(token);
-            return true;
+            return Optional.of(parseClaims(token));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 }
@@ -1,5 +1,7 @@
 package com.example.auth_service.security;
 
+import com.example.auth_service.audit.AuditEventPublisher;
+import com.example.auth_service.audit.AuditEventType;
 import com.example.auth_service.model.User;
 import com.example.auth_service.repository.UserRepository;
 import com.example.auth_service.service.RefreshTokenService;
@@ -20,6 +22,7 @@ public class OAuth2AuthenticationSuccessHandler
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
     private final RefreshTokenService refreshTokenService;
+    private final AuditEventPublisher auditEventPublisher;
 
     @Override
     public void onAuthenticationSuccess(
@@ -37,6 +40,8 @@ public class OAuth2AuthenticationSuccessHandler
                 .createRefreshToken(user)
                 .getToken();
 
+        auditEventPublisher.publish(AuditEventType.OAUTH2_LOGIN, user.getId());
+
         response.setContentType("application/json");
         response.getWriter().write("""
             {
@@ -0,0 +1,29 @@
+package com.example.auth_service.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "oauth2.http")
+public class OAuth2HttpProperties {
+
+    private int maxConnections = 50;
+
+    private int maxConnectionsPerRoute = 20;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /** How long to wait for a free pooled connection. */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+    /** Upper bound for idle keep-alive; shorter provider Keep-Alive headers win. */
+    private Duration keepAlive = Duration.ofSeconds(60);
+
+    private Duration userInfoCacheTtl = Duration.ofSeconds(60);
+
+    private long userInfoCacheMaxSize = 10_000;
+}
@@ -0,0 +1,79 @@
+package com.example.auth_service.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Versioned role table used by compact access tokens. Each known role owns
+ * one bit of the {@code rm} claim; the authority list for every possible mask
+ * is built once at class load.
+ * <p>
+ * Roles may only be appended. Reordering or removing an entry requires
+ * bumping {@link #VERSION}; tokens carrying another version are not decoded.
+ */
+public final class RoleTable {
+
+    public static final int VERSION = 1;
+
+    private static final List<String> ROLES = List.of(
+            "ROLE_USER",
+            "ROLE_ADMIN"
+    );
+
+    private static final Map<String, Long> BITS;
+    private static final List<List<GrantedAuthority>> AUTHORITIES_BY_MASK;
+
+    static {
+        Map<String, Long> bits = new HashMap<>();
+        for (int i = 0; i < ROLES.size(); i++) {
+            bits.put(ROLES.get(i), 1L << i);
+        }
+        BITS = Map.copyOf(bits);
+
+        int masks = 1 << ROLES.size();
+        List<List<GrantedAuthority>> byMask = new ArrayList<>(masks);
+        for (int mask = 0; mask < masks; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (int i = 0; i < ROLES.size(); i++) {
+                if ((mask & (1 << i)) != 0) {
+                    authorities.add(new SimpleGrantedAuthority(ROLES.get(i)));
+                }
+            }
+            byMask.add(List.copyOf(authorities));
+        }
+        AUTHORITIES_BY_MASK = List.copyOf(byMask);
+    }
+
+    private RoleTable() {
+    }
+
+    /**
+     * Returns the bitmask for the given role names, or empty when one of them
+     * is not in the table.
+     */
+    public static Optional<Long> encode(Collection<String> roleNames) {
+        long mask = 0;
+        for (String name : roleNames) {
+            Long bit = BITS.get(name);
+            if (bit == null) {
+                return Optional.empty();
+            }
+            mask |= bit;
+        }
+        return Optional.of(mask);
+    }
+
+    public static Optional<List<GrantedAuthority>> decode(int version, long mask) {
+        if (version != VERSION || mask < 0 || mask >= AUTHORITIES_BY_MASK.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(AUTHORITIES_BY_MASK.get((int) mask));
+    }
+}
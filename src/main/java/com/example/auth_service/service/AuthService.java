@@ -1,5 +1,7 @@
 package com.example.auth_service.service;
 
+import com.example.auth_service.audit.AuditEventPublisher;
+import com.example.auth_service.audit.AuditEventType;
 import com.example.auth_service.dto.LoginRequest;
 import com.example.auth_service.dto.LoginResponse;
 import com.example.auth_service.dto.RegisterRequest;
@@ -25,6 +27,7 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtProvider jwtProvider;
     private final RefreshTokenService refreshTokenService;
+    private final AuditEventPublisher auditEventPublisher;
 
     public void register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.email())) {
@@ -62,6 +65,8 @@ public class AuthService {
         String accessToken = jwtProvider.generateToken(user);
         String refreshToken = refreshTokenService.createRefreshToken(user).getToken();
 
+        auditEventPublisher.publish(AuditEventType.LOGIN, user.getId());
+
         return new LoginResponse(accessToken, refreshToken, "Bearer");
     }
 }
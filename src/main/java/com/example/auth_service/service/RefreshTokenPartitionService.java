@@ -0,0 +1,216 @@
+package com.example.auth_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly {@code refresh_tokens} partitions ahead of the clock and
+ * drops the ones whose whole range has expired. On databases without
+ * declarative partitioning (H2) expired rows are purged with a range delete.
+ */
+@Slf4j
+@Service
+public class RefreshTokenPartitionService {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("refresh_tokens_p(\\d{4})_(\\d{2})");
+    private static final String DEFAULT_PARTITION = "refresh_tokens_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final Clock clock;
+    private final boolean partitioned;
+
+    @Autowired
+    public RefreshTokenPartitionService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${refresh-token.partition.months-ahead:2}") int monthsAhead,
+            Clock clock
+    ) {
+        this(jdbcTemplate, transactionTemplate, monthsAhead, clock, isPostgres(jdbcTemplate));
+    }
+
+    RefreshTokenPartitionService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            int monthsAhead,
+            Clock clock,
+            boolean partitioned
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.clock = clock;
+        this.partitioned = partitioned;
+    }
+
+    /**
+     * Every step is attempted on its own, so a partition that cannot be
+     * created does not keep expired ones from being dropped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${refresh-token.partition.maintenance-cron:0 15 3 * * *}", zone = "UTC")
+    public void maintain() {
+        if (!partitioned) {
+            attempt("purge expired refresh tokens", this::purgeExpiredRows);
+            return;
+        }
+
+        List<String> partitions;
+        try {
+            partitions = listPartitions();
+        } catch (DataAccessException e) {
+            log.warn("Refresh token partition maintenance failed to list partitions", e);
+            return;
+        }
+
+        attempt("purge " + DEFAULT_PARTITION, this::purgeDefaultPartition);
+        for (YearMonth month : monthsToCreate()) {
+            String partition = partitionName(month);
+            if (!partitions.contains(partition)) {
+                attempt("create " + partition, () -> createPartition(month));
+            }
+        }
+        for (String partition : expiredPartitions(partitions)) {
+            attempt("drop " + partition, () -> dropPartition(partition));
+        }
+    }
+
+    private void attempt(String step, Runnable action) {
+        try {
+            action.run();
+        } catch (DataAccessException e) {
+            log.warn("Refresh token partition maintenance failed to {}", step, e);
+        }
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = 'refresh_tokens'
+                """, String.class);
+    }
+
+    /** Rows outside the managed months land in the default partition; expired ones are deleted there. */
+    private void purgeDefaultPartition() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM " + DEFAULT_PARTITION + " WHERE expiry_date < ?",
+                Timestamp.from(clock.instant())
+        );
+        log.debug("Purged {} expired refresh tokens from {}", deleted, DEFAULT_PARTITION);
+    }
+
+    /**
+     * Postgres refuses to add a partition while the default partition holds
+     * rows in its range, so those rows are moved into the new table before it
+     * is attached, all in one transaction.
+     */
+    private void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        Instant from = start(month);
+        Instant to = start(month.plusMonths(1));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE " + partition
+                    + " (LIKE refresh_tokens INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            int moved = jdbcTemplate.update(
+                    "WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                            + " WHERE expiry_date >= ? AND expiry_date < ? RETURNING *)"
+                            + " INSERT INTO " + partition + " SELECT * FROM moved",
+                    Timestamp.from(from), Timestamp.from(to)
+            );
+            jdbcTemplate.execute("ALTER TABLE refresh_tokens ATTACH PARTITION " + partition
+                    + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            log.info("Created refresh token partition {} ({} rows moved from {})", partition, moved, DEFAULT_PARTITION);
+        });
+    }
+
+    private void dropPartition(String partition) {
+        jdbcTemplate.execute("ALTER TABLE refresh_tokens DETACH PARTITION " + partition);
+        jdbcTemplate.execute("DROP TABLE " + partition);
+        log.info("Dropped expired refresh token partition {}", partition);
+    }
+
+    /** The current month and {@code months-ahead} following ones. */
+    List<YearMonth> monthsToCreate() {
+        YearMonth current = YearMonth.now(clock);
+        List<YearMonth> months = new ArrayList<>(monthsAhead + 1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            months.add(current.plusMonths(i));
+        }
+        return months;
+    }
+
+    /**
+     * Monthly partitions whose whole range lies in the past. The default
+     * partition and unrelated tables are never selected.
+     */
+    List<String> expiredPartitions(List<String> partitions) {
+        Instant now = clock.instant();
+        List<String> expired = new ArrayList<>();
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!start(month.plusMonths(1)).isAfter(now)) {
+                expired.add(partition);
+            }
+        }
+        return expired;
+    }
+
+    private void purgeExpiredRows() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM refresh_tokens WHERE expiry_date < ?",
+                Timestamp.from(clock.instant())
+        );
+        log.debug("Purged {} expired refresh tokens", deleted);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "refresh_tokens_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private static Instant start(YearMonth month) {
+        return month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+
+    private static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (Exception e) {
+            log.warn("Could not detect database product, assuming no partitioning", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.auth_service.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Lifetime and verification rules for refresh tokens, shared by the servlet
+ * and the reactive token services.
+ */
+public final class RefreshTokenRules {
+
+    public static final Duration DURATION = Duration.ofDays(7);
+
+    private RefreshTokenRules() {
+    }
+
+    public static Instant newExpiryDate() {
+        return Instant.now().plus(DURATION);
+    }
+
+    public static RuntimeException notFound() {
+        return new RuntimeException("Refresh token tidak ditemukan");
+    }
+
+    /** Rejects revoked or expired tokens. */
+    public static void checkUsable(boolean revoked, Instant expiryDate) {
+        if (revoked) {
+            throw new RuntimeException("Refresh token telah dicabut");
+        }
+
+        if (expiryDate.isBefore(Instant.now())) {
+            throw new RuntimeException("Refresh token telah kedaluwarsa");
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package com.example.auth_service.service;
 
+import com.example.auth_service.audit.AuditEventPublisher;
+import com.example.auth_service.audit.AuditEventType;
 import com.example.auth_service.model.RefreshToken;
 import com.example.auth_service.model.User;
 import com.example.auth_service.repository.RefreshTokenRepository;
+import com.example.auth_service.security.TokenHashing;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
 import java.util.UUID;
 
 @Service
@@ -15,43 +17,40 @@ import java.util.UUID;
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
-
-    private final Long refreshTokenDurationMs = 7 * 24 * 60 * 60 * 1000L; // 7 hari
+    private final AuditEventPublisher auditEventPublisher;
 
     @Transactional
     public RefreshToken createRefreshToken(User user) {
         refreshTokenRepository.deleteAllByUserId(user.getId());
 
+        String token = UUID.randomUUID().toString();
+
         RefreshToken refreshToken = RefreshToken.builder()
                 .user(user)
-                .token(UUID.randomUUID().toString())
-                .expiryDate(Instant.now().plusMillis(refreshTokenDurationMs))
+                .token(token)
+                .tokenHash(TokenHashing.hash(token))
+                .expiryDate(RefreshTokenRules.newExpiryDate())
                 .build();
 
         return refreshTokenRepository.save(refreshToken);
     }
 
     public RefreshToken verifyRefreshToken(String token) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(token)
-                .orElseThrow(() -> new RuntimeException("Refresh token tidak ditemukan"));
-
-        if (refreshToken.isRevoked()) {
-            throw new RuntimeException("Refresh token telah dicabut");
-        }
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(TokenHashing.hash(token))
+                .orElseThrow(RefreshTokenRules::notFound);
 
-        if (refreshToken.getExpiryDate().isBefore(Instant.now())) {
-            throw new RuntimeException("Refresh token telah kedaluwarsa");
-        }
+        RefreshTokenRules.checkUsable(refreshToken.isRevoked(), refreshToken.getExpiryDate());
 
         return refreshToken;
     }
 
     @Transactional
     public void revokeRefreshToken(String token) {
-        refreshTokenRepository.findByToken(token)
+        refreshTokenRepository.findByTokenHash(TokenHashing.hash(token))
                 .ifPresent(rt -> {
                     rt.setRevoked(true);
                     refreshTokenRepository.save(rt);
+                    auditEventPublisher.publish(AuditEventType.LOGOUT, rt.getUser().getId());
                 });
     }
 }
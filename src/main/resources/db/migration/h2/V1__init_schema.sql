@@ -0,0 +1,48 @@
+-- H2 has no declarative partitioning: refresh_tokens is a single table here and
+-- RefreshTokenPartitionService purges expired rows with one range delete.
+
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    full_name  VARCHAR(255),
+    enabled    BOOLEAN      NOT NULL DEFAULT TRUE,
+    last_login TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE roles (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+);
+
+CREATE TABLE refresh_tokens (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash  VARCHAR(64)                NOT NULL,
+    user_id     BIGINT                     NOT NULL,
+    expiry_date TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked     BOOLEAN                    NOT NULL DEFAULT FALSE,
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens (user_id, expiry_date, revoked);
+CREATE INDEX idx_refresh_tokens_expiry ON refresh_tokens (expiry_date, user_id);
+
+CREATE TABLE audit_events (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type  VARCHAR(32)                NOT NULL,
+    user_id     BIGINT                     NOT NULL,
+    occurred_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_audit_events_user_id ON audit_events (user_id);
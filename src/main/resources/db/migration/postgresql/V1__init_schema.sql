@@ -0,0 +1,67 @@
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    full_name  VARCHAR(255),
+    enabled    BOOLEAN      NOT NULL DEFAULT TRUE,
+    last_login TIMESTAMPTZ,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE roles (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    role_id BIGINT NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (user_id, role_id)
+);
+
+-- Range-partitioned by expiry so expired tokens are removed by dropping whole
+-- monthly partitions (see RefreshTokenPartitionService). The partition key must
+-- be part of the primary key; token_hash is looked up through a hash index.
+CREATE SEQUENCE refresh_tokens_id_seq;
+
+CREATE TABLE refresh_tokens (
+    id          BIGINT      NOT NULL DEFAULT nextval('refresh_tokens_id_seq'),
+    token_hash  VARCHAR(64) NOT NULL,
+    user_id     BIGINT      NOT NULL REFERENCES users (id),
+    expiry_date TIMESTAMPTZ NOT NULL,
+    revoked     BOOLEAN     NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id, expiry_date)
+) PARTITION BY RANGE (expiry_date);
+
+ALTER SEQUENCE refresh_tokens_id_seq OWNED BY refresh_tokens.id;
+
+CREATE INDEX idx_refresh_tokens_token_hash ON refresh_tokens USING hash (token_hash);
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens (user_id) INCLUDE (expiry_date, revoked);
+CREATE INDEX idx_refresh_tokens_expiry ON refresh_tokens (expiry_date) INCLUDE (user_id);
+
+-- Safety net for rows outside the managed monthly ranges.
+CREATE TABLE refresh_tokens_default PARTITION OF refresh_tokens DEFAULT;
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', now() AT TIME ZONE 'UTC')::date;
+BEGIN
+    FOR i IN 0..2 LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF refresh_tokens FOR VALUES FROM (%L) TO (%L)',
+            'refresh_tokens_p' || to_char(month_start + make_interval(months => i), 'YYYY_MM'),
+            (month_start + make_interval(months => i))::timestamp AT TIME ZONE 'UTC',
+            (month_start + make_interval(months => i + 1))::timestamp AT TIME ZONE 'UTC'
+        );
+    END LOOP;
+END $$;
+
+CREATE TABLE audit_events (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type  VARCHAR(32) NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    occurred_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_audit_events_user_id ON audit_events (user_id);
@@ -0,0 +1,96 @@
+package com.example.auth_service.audit;
+
+import com.example.auth_service.config.AuditConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditEventPublisherTests {
+
+	@Test
+	void dropPolicyDiscardsWhenFullAndExportsCounter() {
+		AuditEventPublisher publisher = publisher(AuditOverflowPolicy.DROP, Duration.ofSeconds(5));
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new AuditConfig().auditMetrics(publisher).bindTo(registry);
+
+		long start = System.nanoTime();
+		for (long userId = 1; userId <= 3; userId++) {
+			publisher.publish(AuditEventType.LOGIN, userId);
+		}
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+		assertThat(publisher.getDroppedCount()).isEqualTo(1);
+		assertThat(registry.get("audit.events.dropped").functionCounter().count()).isEqualTo(1);
+		assertThat(drainUserIds(publisher)).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void blockPolicyWaitsForBlockTimeoutThenDrops() {
+		AuditEventPublisher publisher = publisher(AuditOverflowPolicy.BLOCK, Duration.ofMillis(100));
+		publisher.publish(AuditEventType.LOGIN, 1L);
+		publisher.publish(AuditEventType.LOGIN, 2L);
+
+		long start = System.nanoTime();
+		publisher.publish(AuditEventType.LOGIN, 3L);
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(100);
+		assertThat(publisher.getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void blockPolicyEnqueuesOnceConsumerFreesSpace() throws InterruptedException {
+		AuditEventPublisher publisher = publisher(AuditOverflowPolicy.BLOCK, Duration.ofSeconds(5));
+		publisher.publish(AuditEventType.LOGIN, 1L);
+		publisher.publish(AuditEventType.LOGIN, 2L);
+
+		List<Long> drained = new ArrayList<>();
+		Thread consumer = new Thread(() -> {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			publisher.buffer().drain(event -> drained.add(event.userId()), 1);
+		});
+		publisher.attachConsumer(consumer);
+		consumer.start();
+
+		publisher.publish(AuditEventType.LOGIN, 3L);
+		consumer.join();
+
+		assertThat(publisher.getDroppedCount()).isZero();
+		assertThat(drained).containsExactly(1L);
+		assertThat(drainUserIds(publisher)).containsExactly(2L, 3L);
+	}
+
+	@Test
+	void disabledPublisherIgnoresEvents() {
+		AuditProperties properties = new AuditProperties();
+		properties.setEnabled(false);
+		AuditEventPublisher publisher = new AuditEventPublisher(properties);
+
+		publisher.publish(AuditEventType.LOGIN, 1L);
+
+		assertThat(drainUserIds(publisher)).isEmpty();
+	}
+
+	private static AuditEventPublisher publisher(AuditOverflowPolicy policy, Duration blockTimeout) {
+		AuditProperties properties = new AuditProperties();
+		properties.setCapacity(2);
+		properties.setOverflowPolicy(policy);
+		properties.setBlockTimeout(blockTimeout);
+		return new AuditEventPublisher(properties);
+	}
+
+	private static List<Long> drainUserIds(AuditEventPublisher publisher) {
+		List<Long> userIds = new ArrayList<>();
+		publisher.buffer().drain(event -> userIds.add(event.userId()), Integer.MAX_VALUE);
+		return userIds;
+	}
+}
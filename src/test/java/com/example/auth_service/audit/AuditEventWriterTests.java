@@ -0,0 +1,160 @@
+package com.example.auth_service.audit;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AuditEventWriterTests {
+
+	private final AuditProperties properties = new AuditProperties();
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbcTemplate;
+	private AuditEventPublisher publisher;
+	private AuditEventWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true)
+				.build();
+		Flyway.configure()
+				.dataSource(database)
+				.locations("classpath:db/migration/h2")
+				.load()
+				.migrate();
+
+		jdbcTemplate = spy(new JdbcTemplate(database));
+		for (long id = 1; id <= 3; id++) {
+			jdbcTemplate.update("INSERT INTO users (id, email, password) VALUES (?, ?, 'x')", id, "user" + id + "@example.com");
+		}
+
+		properties.setFlushInterval(Duration.ofMillis(50));
+		publisher = new AuditEventPublisher(properties);
+		writer = new AuditEventWriter(
+				publisher,
+				properties,
+				jdbcTemplate,
+				new TransactionTemplate(new DataSourceTransactionManager(database))
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		writer.stop();
+		database.shutdown();
+	}
+
+	@Test
+	void flushWritesOneBatchAndCoalescesLastLoginPerUser() {
+		Instant future = Instant.parse("2100-01-01T00:00:00Z");
+		jdbcTemplate.update("UPDATE users SET last_login = ? WHERE id = 3", Timestamp.from(future));
+
+		publisher.buffer().offer(new AuditEvent(AuditEventType.LOGIN, 1L, 1_000));
+		publisher.buffer().offer(new AuditEvent(AuditEventType.OAUTH2_LOGIN, 1L, 3_000));
+		publisher.buffer().offer(new AuditEvent(AuditEventType.LOGIN, 1L, 2_000));
+		publisher.buffer().offer(new AuditEvent(AuditEventType.REFRESH, 1L, 9_000));
+		publisher.buffer().offer(new AuditEvent(AuditEventType.LOGIN, 2L, 4_000));
+		publisher.buffer().offer(new AuditEvent(AuditEventType.LOGOUT, 2L, 5_000));
+		publisher.buffer().offer(new AuditEvent(AuditEventType.LOGIN, 3L, 6_000));
+
+		assertThat(writer.drain()).isEqualTo(7);
+		writer.flush();
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_events", Integer.class)).isEqualTo(7);
+
+		// latest login event wins; refresh/logout do not count as logins
+		assertThat(lastLogin(1)).isEqualTo(Instant.ofEpochMilli(3_000));
+		assertThat(lastLogin(2)).isEqualTo(Instant.ofEpochMilli(4_000));
+		// an older event never moves last_login backwards
+		assertThat(lastLogin(3)).isEqualTo(future);
+
+		verify(jdbcTemplate, times(1)).batchUpdate(eq(AuditEventWriter.UPDATE_LAST_LOGIN), anyList());
+		verify(jdbcTemplate).batchUpdate(eq(AuditEventWriter.UPDATE_LAST_LOGIN),
+				ArgumentMatchers.<List<Object[]>>argThat(updates -> updates.size() == 3));
+	}
+
+	@Test
+	void flushesPartialBatchOnInterval() throws InterruptedException {
+		writer.start();
+
+		publisher.publish(AuditEventType.LOGIN, 1L);
+		publisher.publish(AuditEventType.REFRESH, 2L);
+
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		int rows = 0;
+		while (rows < 2 && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+			rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_events", Integer.class);
+		}
+
+		assertThat(rows).isEqualTo(2);
+		assertThat(lastLogin(1)).isNotNull();
+		assertThat(lastLogin(2)).isNull();
+	}
+
+	@Test
+	void batchesEventsArrivingAfterAQuietPeriod() throws InterruptedException {
+		properties.setFlushInterval(Duration.ofSeconds(1));
+		writer.start();
+		Thread.sleep(1_500);
+
+		// spread over most of one interval: the writer wakes up mid-way through
+		// but must wait for the first event's interval before flushing
+		for (long id = 1; id <= 4; id++) {
+			publisher.publish(AuditEventType.REFRESH, id % 3 + 1);
+			Thread.sleep(200);
+		}
+
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		int rows = 0;
+		while (rows < 4 && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+			rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_events", Integer.class);
+		}
+
+		assertThat(rows).isEqualTo(4);
+		verify(jdbcTemplate, times(1)).batchUpdate(eq(AuditEventWriter.INSERT_EVENT), anyCollection(), anyInt(), any());
+	}
+
+	@Test
+	void drainsPublishedEventsOnStop() {
+		properties.setFlushInterval(Duration.ofMinutes(1));
+		writer.start();
+
+		publisher.publish(AuditEventType.LOGOUT, 1L);
+		writer.stop();
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_events", Integer.class)).isEqualTo(1);
+	}
+
+	private Instant lastLogin(long userId) {
+		Timestamp lastLogin = jdbcTemplate.queryForObject(
+				"SELECT last_login FROM users WHERE id = ?", Timestamp.class, userId);
+		return lastLogin == null ? null : lastLogin.toInstant();
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.auth_service.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTests {
+
+	@Test
+	void roundsCapacityAndRejectsWhenFull() {
+		AuditRingBuffer buffer = new AuditRingBuffer(3);
+		assertThat(buffer.capacity()).isEqualTo(4);
+
+		for (long i = 0; i < 4; i++) {
+			assertThat(buffer.offer(new AuditEvent(AuditEventType.LOGIN, i, i))).isTrue();
+		}
+		assertThat(buffer.offer(new AuditEvent(AuditEventType.LOGIN, 4L, 4))).isFalse();
+
+		List<AuditEvent> drained = new ArrayList<>();
+		assertThat(buffer.drain(drained::add, 2)).isEqualTo(2);
+		assertThat(drained).extracting(AuditEvent::userId).containsExactly(0L, 1L);
+		assertThat(buffer.offer(new AuditEvent(AuditEventType.LOGIN, 4L, 4))).isTrue();
+	}
+
+	@Test
+	void deliversEveryEventFromConcurrentProducers() throws Exception {
+		int producers = 4;
+		int perProducer = 10_000;
+		AuditRingBuffer buffer = new AuditRingBuffer(64);
+		ExecutorService pool = Executors.newFixedThreadPool(producers);
+		CountDownLatch start = new CountDownLatch(1);
+
+		for (int p = 0; p < producers; p++) {
+			long base = (long) p * perProducer;
+			pool.submit(() -> {
+				start.await();
+				for (long i = 0; i < perProducer; i++) {
+					AuditEvent event = new AuditEvent(AuditEventType.REFRESH, base + i, 0);
+					while (!buffer.offer(event)) {
+						Thread.yield(); // let the consumer run, even on a single core
+					}
+				}
+				return null;
+			});
+		}
+
+		Set<Long> seen = new HashSet<>();
+		start.countDown();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+			if (buffer.drain(event -> seen.add(event.userId()), 32) == 0) {
+				Thread.yield();
+			}
+		}
+		pool.shutdownNow();
+
+		assertThat(seen).hasSize(producers * perProducer);
+	}
+}
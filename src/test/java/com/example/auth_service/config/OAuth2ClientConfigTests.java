@@ -0,0 +1,193 @@
+package com.example.auth_service.config;
+
+import com.example.auth_service.security.CachingOAuth2UserService;
+import com.example.auth_service.security.OAuth2HttpProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.observation.web.client.HttpClientObservationsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.client.HttpClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationExchange;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationResponse;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OAuth2ClientConfigTests {
+
+	private final OAuth2ClientConfig config = new OAuth2ClientConfig();
+	private final OAuth2HttpProperties properties = new OAuth2HttpProperties();
+
+	private final AtomicInteger userInfoCalls = new AtomicInteger();
+	private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+	private HttpServer provider;
+	private PoolingHttpClientConnectionManager connectionManager;
+	private CloseableHttpClient httpClient;
+	private ClientRegistration registration;
+
+	@BeforeEach
+	void startStubProvider() throws IOException {
+		provider = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		provider.createContext("/token", exchange -> respond(exchange, """
+				{"access_token":"stub-token","token_type":"Bearer","expires_in":60}
+				"""));
+		provider.createContext("/userinfo", exchange -> {
+			userInfoCalls.incrementAndGet();
+			respond(exchange, """
+					{"sub":"1","email":"stub@example.com"}
+					""");
+		});
+		provider.start();
+
+		String baseUrl = "http://127.0.0.1:" + provider.getAddress().getPort();
+		registration = ClientRegistration.withRegistrationId("stub")
+				.clientId("client")
+				.clientSecret("secret")
+				.authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+				.redirectUri("http://localhost/login/oauth2/code/stub")
+				.authorizationUri(baseUrl + "/authorize")
+				.tokenUri(baseUrl + "/token")
+				.userInfoUri(baseUrl + "/userinfo")
+				.userNameAttributeName("email")
+				.build();
+
+		connectionManager = config.oauth2ConnectionManager(properties);
+		httpClient = config.oauth2HttpClient(connectionManager, properties);
+	}
+
+	@AfterEach
+	void stopStubProvider() throws IOException {
+		httpClient.close();
+		connectionManager.close();
+		provider.stop(0);
+	}
+
+	@Test
+	void exchangesCodeAndCachesUserInfoOverOnePooledConnection() {
+		OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> tokenClient =
+				config.oauth2AccessTokenResponseClient(httpClient, RestClient.builder());
+		CachingOAuth2UserService userInfoClient =
+				config.oauth2UserInfoClient(httpClient, new RestTemplateBuilder(), properties);
+
+		OAuth2AccessTokenResponse tokenResponse = tokenClient.getTokenResponse(codeGrant());
+		assertThat(tokenResponse.getAccessToken().getTokenValue()).isEqualTo("stub-token");
+
+		OAuth2User first = userInfoClient.loadUser(userRequest(tokenResponse.getAccessToken().getTokenValue()));
+		OAuth2User cached = userInfoClient.loadUser(userRequest(tokenResponse.getAccessToken().getTokenValue()));
+		userInfoClient.loadUser(userRequest("other-token"));
+
+		assertThat(first.getName()).isEqualTo("stub@example.com");
+		assertThat(cached).isSameAs(first);
+		assertThat(userInfoCalls).hasValue(2);
+		assertThat(clientPorts).hasSize(1);
+	}
+
+	@Test
+	void exportsPoolGauges() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		config.oauth2ConnectionPoolMetrics(connectionManager).bindTo(registry);
+
+		config.oauth2UserInfoClient(httpClient, new RestTemplateBuilder(), properties)
+				.loadUser(userRequest("token"));
+
+		assertThat(registry.get("oauth2.http.pool.max").gauge().value())
+				.isEqualTo(properties.getMaxConnections());
+		assertThat(registry.get("oauth2.http.pool.leased").gauge().value()).isZero();
+		assertThat(registry.get("oauth2.http.pool.available").gauge().value()).isEqualTo(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void recordsClientRequestTimersThroughTheInjectedBuilders() {
+		new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(
+						ObservationAutoConfiguration.class,
+						MetricsAutoConfiguration.class,
+						SimpleMetricsExportAutoConfiguration.class,
+						CompositeMeterRegistryAutoConfiguration.class,
+						HttpClientObservationsAutoConfiguration.class,
+						HttpClientAutoConfiguration.class,
+						HttpMessageConvertersAutoConfiguration.class,
+						RestTemplateAutoConfiguration.class,
+						RestClientAutoConfiguration.class
+				))
+				.withUserConfiguration(OAuth2ClientConfig.class)
+				.run(context -> {
+					OAuth2AccessTokenResponse tokenResponse = context.getBean(OAuth2AccessTokenResponseClient.class)
+							.getTokenResponse(codeGrant());
+					context.getBean(CachingOAuth2UserService.class)
+							.loadUser(userRequest(tokenResponse.getAccessToken().getTokenValue()));
+
+					MeterRegistry registry = context.getBean(MeterRegistry.class);
+					assertThat(registry.get("http.client.requests").tag("uri", "/token").timer().count())
+							.isEqualTo(1);
+					assertThat(registry.get("http.client.requests").tag("uri", "/userinfo").timer().count())
+							.isEqualTo(1);
+				});
+	}
+
+	private OAuth2AuthorizationCodeGrantRequest codeGrant() {
+		OAuth2AuthorizationRequest request = OAuth2AuthorizationRequest.authorizationCode()
+				.authorizationUri(registration.getProviderDetails().getAuthorizationUri())
+				.clientId(registration.getClientId())
+				.redirectUri(registration.getRedirectUri())
+				.state("state")
+				.build();
+		OAuth2AuthorizationResponse response = OAuth2AuthorizationResponse.success("code")
+				.redirectUri(registration.getRedirectUri())
+				.state("state")
+				.build();
+		return new OAuth2AuthorizationCodeGrantRequest(
+				registration, new OAuth2AuthorizationExchange(request, response));
+	}
+
+	private OAuth2UserRequest userRequest(String tokenValue) {
+		Instant now = Instant.now();
+		return new OAuth2UserRequest(registration, new OAuth2AccessToken(
+				OAuth2AccessToken.TokenType.BEARER, tokenValue, now, now.plusSeconds(60)));
+	}
+
+	private void respond(HttpExchange exchange, String body) throws IOException {
+		clientPorts.add(exchange.getRemoteAddress().getPort());
+		exchange.getRequestBody().readAllBytes();
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		exchange.getResponseBody().write(bytes);
+		exchange.close();
+	}
+}
@@ -0,0 +1,432 @@
+package com.example.auth_service.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Open-loop, mixed-workload load test against the real HTTP stack on a random
+ * port with the in-memory H2 database. Requests are fired on a fixed arrival
+ * schedule regardless of how fast earlier ones complete, and latency is taken
+ * from each request's scheduled start.
+ * <p>
+ * After the open-loop run, a closed-loop phase ({@code loadtest.saturation})
+ * drives the same mix with {@code loadtest.concurrency} workers and no think
+ * time to measure the highest sustained throughput.
+ * <p>
+ * Run with {@code ./mvnw -Pload-test test}. Runs fail when the open-loop p99s
+ * or the closed-loop throughput regress past the committed baseline by more
+ * than {@code loadtest.tolerance}, or when there is no baseline. {@code -Dloadtest.updateBaseline=true} records
+ * a new baseline under {@code target/loadtest} instead of checking it; repeated
+ * recording runs with the same settings keep the worst of each figure.
+ * {@link ReactiveAuthEndpointsLoadTest} runs the same workload against the
+ * WebFlux variant with its own baseline.
+ */
+@Tag("load")
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {
+				"spring.security.oauth2.client.registration.google.client-id=load-test",
+				"spring.security.oauth2.client.registration.google.client-secret=load-test",
+				"logging.level.org.springframework=WARN"
+		}
+)
+class AuthEndpointsLoadTest {
+
+	private static final String PASSWORD = "load-test-password";
+
+	private static final List<String> SETTINGS_KEYS =
+			List.of("settings.rate", "settings.concurrency", "settings.duration", "settings.mix");
+
+	protected final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+
+	private final Queue<Session> idleSessions = new ConcurrentLinkedQueue<>();
+	private final Queue<Session> loggedOut = new ConcurrentLinkedQueue<>();
+	private final AtomicLong userSequence = new AtomicLong();
+
+	@LocalServerPort
+	private int port;
+
+	@Test
+	void mixedWorkloadStaysWithinBaseline() throws Exception {
+		for (int i = 0; i < settings.users(); i++) {
+			Session session = newSession();
+			if (!register(session) || !login(session)) {
+				throw new IllegalStateException("Could not seed load test user " + session.email);
+			}
+			idleSessions.add(session);
+		}
+
+		ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+		try {
+			run(workers, settings.warmup(), new LatencyRecorder());
+
+			LatencyRecorder recorder = new LatencyRecorder();
+			double throughput = run(workers, settings.duration(), recorder);
+
+			System.out.printf("%n[%s] open loop: rate=%.0f req/s, concurrency=%d%n",
+					variant(), settings.rate(), settings.concurrency());
+			recorder.printSummary(System.out, throughput);
+			recorder.writeHistograms(settings.reportDir().resolve(variant()));
+			assertErrorRate(recorder);
+
+			LatencyRecorder saturationRecorder = new LatencyRecorder();
+			double saturation = saturate(workers, settings.saturation(), saturationRecorder);
+
+			System.out.printf("[%s] closed loop: concurrency=%d, no think time%n",
+					variant(), settings.concurrency());
+			saturationRecorder.printSummary(System.out, saturation);
+			assertErrorRate(saturationRecorder);
+
+			checkBaseline(recorder, saturation);
+		} finally {
+			workers.shutdownNow();
+		}
+	}
+
+	private void assertErrorRate(LatencyRecorder recorder) {
+		assertThat((double) recorder.errors() / Math.max(1, recorder.completed()))
+				.as("error rate")
+				.isLessThanOrEqualTo(settings.maxErrorRate());
+	}
+
+	/**
+	 * Every worker sends its next request as soon as the previous one
+	 * completes, so completed requests per second is the highest rate the
+	 * service sustains for the mix. Unlike the open-loop rate it drops when
+	 * the service gets slower.
+	 */
+	private double saturate(ExecutorService workers, Duration duration, LatencyRecorder recorder)
+			throws InterruptedException {
+		List<Operation> schedule = weightedSchedule();
+		CountDownLatch finished = new CountDownLatch(settings.concurrency());
+
+		long start = System.nanoTime();
+		long deadline = start + duration.toNanos();
+		for (int i = 0; i < settings.concurrency(); i++) {
+			workers.execute(() -> {
+				try {
+					while (System.nanoTime() < deadline) {
+						Operation operation = schedule.get(ThreadLocalRandom.current().nextInt(schedule.size()));
+						perform(operation, System.nanoTime(), recorder);
+					}
+				} finally {
+					finished.countDown();
+				}
+			});
+		}
+
+		assertThat(finished.await(duration.toSeconds() + 60, TimeUnit.SECONDS)).as("closed loop drained").isTrue();
+		return recorder.completed() / ((System.nanoTime() - start) / 1e9);
+	}
+
+	private double run(ExecutorService workers, Duration duration, LatencyRecorder recorder)
+			throws InterruptedException {
+		long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate());
+		long requests = duration.toNanos() / intervalNanos;
+		List<Operation> schedule = weightedSchedule();
+		AtomicLong lastCompletion = new AtomicLong();
+
+		long start = System.nanoTime();
+		for (long i = 0; i < requests; i++) {
+			long intendedStart = start + i * intervalNanos;
+			long wait = intendedStart - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			Operation operation = schedule.get(ThreadLocalRandom.current().nextInt(schedule.size()));
+			workers.execute(() -> {
+				perform(operation, intendedStart, recorder);
+				lastCompletion.accumulateAndGet(System.nanoTime(), Math::max);
+			});
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+		while (recorder.completed() < requests && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(recorder.completed()).as("completed requests").isEqualTo(requests);
+
+		return recorder.completed() / ((lastCompletion.get() - start) / 1e9);
+	}
+
+	private void perform(Operation planned, long intendedStart, LatencyRecorder recorder) {
+		Session session = null;
+		Operation operation = planned;
+
+		if (operation == Operation.LOGIN) {
+			session = loggedOut.poll();
+			if (session == null) {
+				session = idleSessions.poll();
+			}
+		} else if (operation != Operation.REGISTER) {
+			session = idleSessions.poll();
+		}
+
+		if (session == null && operation != Operation.REGISTER) {
+			// every session is busy: keep the arrival rate by registering a fresh user
+			operation = Operation.REGISTER;
+		}
+		if (operation == Operation.REGISTER) {
+			session = newSession();
+		}
+
+		long sendStart = System.nanoTime();
+		boolean success;
+		try {
+			success = switch (operation) {
+				case REGISTER -> register(session);
+				case LOGIN -> login(session);
+				case REFRESH -> refresh(session);
+				case LOGOUT -> logout(session);
+				case ME -> me(session);
+			};
+		} catch (Exception e) {
+			success = false;
+		}
+		recorder.record(operation, intendedStart, sendStart, System.nanoTime(), success);
+
+		if (operation == Operation.REGISTER || operation == Operation.LOGOUT || session.accessToken == null) {
+			loggedOut.add(session);
+		} else {
+			idleSessions.add(session);
+		}
+	}
+
+	private boolean register(Session session) throws IOException, InterruptedException {
+		return post("/api/auth/register", """
+				{"email":"%s","password":"%s","fullName":"Load Test"}
+				""".formatted(session.email, PASSWORD)).statusCode() == 201;
+	}
+
+	private boolean login(Session session) throws IOException, InterruptedException {
+		HttpResponse<String> response = post("/api/auth/login", """
+				{"email":"%s","password":"%s"}
+				""".formatted(session.email, PASSWORD));
+		return updateTokens(session, response);
+	}
+
+	private boolean refresh(Session session) throws IOException, InterruptedException {
+		HttpResponse<String> response = post("/api/auth/refresh", """
+				{"refreshToken":"%s"}
+				""".formatted(session.refreshToken));
+		return updateTokens(session, response);
+	}
+
+	private boolean logout(Session session) throws IOException, InterruptedException {
+		HttpResponse<String> response = post("/api/auth/logout", """
+				{"refreshToken":"%s"}
+				""".formatted(session.refreshToken));
+		session.accessToken = null;
+		session.refreshToken = null;
+		return response.statusCode() == 200;
+	}
+
+	private boolean me(Session session) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(uri("/api/users/me"))
+				.header("Authorization", "Bearer " + session.accessToken)
+				.GET()
+				.build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+	}
+
+	private boolean updateTokens(Session session, HttpResponse<String> response) throws IOException {
+		if (response.statusCode() != 200) {
+			return false;
+		}
+		JsonNode body = objectMapper.readTree(response.body());
+		session.accessToken = body.get("accessToken").asText();
+		session.refreshToken = body.get("refreshToken").asText();
+		return true;
+	}
+
+	private HttpResponse<String> post(String path, String json) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(uri(path))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private Session newSession() {
+		return new Session("load-" + variant() + "-" + userSequence.incrementAndGet() + "@example.com");
+	}
+
+	private List<Operation> weightedSchedule() {
+		List<Operation> schedule = new ArrayList<>();
+		for (Map.Entry<Operation, Integer> entry : settings.mix().entrySet()) {
+			for (int i = 0; i < entry.getValue(); i++) {
+				schedule.add(entry.getKey());
+			}
+		}
+		return schedule;
+	}
+
+	private void checkBaseline(LatencyRecorder recorder, double saturation) throws IOException {
+		Properties current = new Properties();
+		current.setProperty("settings.rate", format(settings.rate()));
+		current.setProperty("settings.concurrency", String.valueOf(settings.concurrency()));
+		current.setProperty("settings.duration", settings.duration().toString());
+		current.setProperty("settings.mix", settings.mix().toString());
+		current.setProperty("saturation.rps", format(saturation));
+		for (Operation operation : Operation.values()) {
+			if (recorder.count(operation) > 0) {
+				current.setProperty(key(operation), format(recorder.p99Millis(operation)));
+			}
+		}
+
+		Path baselineFile = baselineFile();
+
+		if (settings.updateBaseline()) {
+			Path recorded = settings.reportDir().resolve(variant()).resolve(baselineFile.getFileName());
+			Files.createDirectories(recorded.getParent());
+			widen(current, recorded);
+			try (OutputStream out = Files.newOutputStream(recorded)) {
+				current.store(out, "Load test baseline: rate=" + settings.rate()
+						+ " req/s, concurrency=" + settings.concurrency() + ", mix=" + settings.mix()
+						+ ", " + Runtime.getRuntime().availableProcessors() + " CPUs");
+			}
+			System.out.printf("Recorded load test baseline (%s runs) at %s; copy it to %s to adopt it%n",
+					current.getProperty("runs"), recorded, baselineFile);
+			return;
+		}
+
+		if (Files.notExists(baselineFile)) {
+			fail("No load test baseline at %s; run with -Dloadtest.updateBaseline=true and copy the recorded file there",
+					baselineFile);
+		}
+
+		Properties baseline = new Properties();
+		try (InputStream in = Files.newInputStream(baselineFile)) {
+			baseline.load(in);
+		}
+
+		for (String key : SETTINGS_KEYS) {
+			assertThat(current.getProperty(key))
+					.as("%s of this run against %s; pass the recorded settings or record a new baseline",
+							key, baselineFile)
+					.isEqualTo(baseline.getProperty(key));
+		}
+
+		double allowedSaturation = Double.parseDouble(baseline.getProperty("saturation.rps"))
+				* (1 - settings.tolerance());
+
+		SoftAssertions.assertSoftly(softly -> {
+			softly.assertThat(saturation)
+					.as("closed-loop throughput (req/s)")
+					.isGreaterThanOrEqualTo(allowedSaturation);
+
+			for (Operation operation : Operation.values()) {
+				String expected = baseline.getProperty(key(operation));
+				// below minSamples the p99 is the few slowest requests and only reported
+				if (expected == null || recorder.count(operation) < settings.minSamples()) {
+					continue;
+				}
+				double allowedP99 = Double.parseDouble(expected) * (1 + settings.tolerance());
+				softly.assertThat(recorder.p99Millis(operation))
+						.as("%s p99 (ms)", operation.name().toLowerCase())
+						.isLessThanOrEqualTo(allowedP99);
+			}
+		});
+	}
+
+	/**
+	 * Folds an earlier recording with the same settings into {@code current}, keeping
+	 * the slowest p99s and the lowest saturation, so repeated recording runs yield a
+	 * worst-of-N baseline.
+	 */
+	private void widen(Properties current, Path recorded) throws IOException {
+		current.setProperty("runs", "1");
+		if (Files.notExists(recorded)) {
+			return;
+		}
+		Properties earlier = new Properties();
+		try (InputStream in = Files.newInputStream(recorded)) {
+			earlier.load(in);
+		}
+		for (String key : SETTINGS_KEYS) {
+			if (!current.getProperty(key).equals(earlier.getProperty(key))) {
+				return;
+			}
+		}
+		current.setProperty("runs", String.valueOf(Integer.parseInt(earlier.getProperty("runs", "1")) + 1));
+		current.setProperty("saturation.rps", format(Math.min(
+				Double.parseDouble(current.getProperty("saturation.rps")),
+				Double.parseDouble(earlier.getProperty("saturation.rps")))));
+		for (Operation operation : Operation.values()) {
+			String before = earlier.getProperty(key(operation));
+			String now = current.getProperty(key(operation));
+			if (before != null && now != null) {
+				current.setProperty(key(operation),
+						format(Math.max(Double.parseDouble(before), Double.parseDouble(now))));
+			}
+		}
+	}
+
+	protected String variant() {
+		return "servlet";
+	}
+
+	protected Path baselineFile() {
+		return settings.baseline();
+	}
+
+	private static String key(Operation operation) {
+		return operation.name().toLowerCase() + ".p99.ms";
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.3f", value);
+	}
+
+	private static final class Session {
+
+		private final String email;
+		private volatile String accessToken;
+		private volatile String refreshToken;
+
+		private Session(String email) {
+			this.email = email;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.example.auth_service.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-operation latency histograms. "Response time" is measured from the
+ * request's intended start on the open-loop schedule, so queueing behind a
+ * slow request is counted (coordinated-omission corrected); "service time"
+ * only covers the HTTP call itself.
+ */
+class LatencyRecorder {
+
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+	private final Map<Operation, Histogram> responseTimes = new EnumMap<>(Operation.class);
+	private final Map<Operation, Histogram> serviceTimes = new EnumMap<>(Operation.class);
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong errors = new AtomicLong();
+
+	LatencyRecorder() {
+		for (Operation operation : Operation.values()) {
+			responseTimes.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+			serviceTimes.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+		}
+	}
+
+	void record(Operation operation, long intendedStartNanos, long sendStartNanos, long endNanos, boolean success) {
+		responseTimes.get(operation).recordValue(toMicros(endNanos - intendedStartNanos));
+		serviceTimes.get(operation).recordValue(toMicros(endNanos - sendStartNanos));
+		completed.incrementAndGet();
+		if (!success) {
+			errors.incrementAndGet();
+		}
+	}
+
+	long completed() {
+		return completed.get();
+	}
+
+	long errors() {
+		return errors.get();
+	}
+
+	long count(Operation operation) {
+		return responseTimes.get(operation).getTotalCount();
+	}
+
+	/** Corrected p99 response time in milliseconds. */
+	double p99Millis(Operation operation) {
+		return responseTimes.get(operation).getValueAtPercentile(99.0) / 1000.0;
+	}
+
+	void printSummary(PrintStream out, double throughput) {
+		out.printf("%n%-9s %8s %10s %10s %10s %10s %12s%n",
+				"endpoint", "count", "p50 ms", "p90 ms", "p99 ms", "max ms", "svc p99 ms");
+		for (Operation operation : Operation.values()) {
+			Histogram response = responseTimes.get(operation);
+			if (response.getTotalCount() == 0) {
+				continue;
+			}
+			out.printf("%-9s %8d %10.2f %10.2f %10.2f %10.2f %12.2f%n",
+					operation.name().toLowerCase(),
+					response.getTotalCount(),
+					response.getValueAtPercentile(50) / 1000.0,
+					response.getValueAtPercentile(90) / 1000.0,
+					response.getValueAtPercentile(99) / 1000.0,
+					response.getMaxValue() / 1000.0,
+					serviceTimes.get(operation).getValueAtPercentile(99) / 1000.0);
+		}
+		out.printf("throughput %.1f req/s, errors %d/%d%n%n", throughput, errors(), completed());
+	}
+
+	void writeHistograms(Path dir) throws IOException {
+		Files.createDirectories(dir);
+		for (Operation operation : Operation.values()) {
+			Histogram response = responseTimes.get(operation);
+			if (response.getTotalCount() == 0) {
+				continue;
+			}
+			Path file = dir.resolve(operation.name().toLowerCase() + ".hgrm");
+			try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+				response.outputPercentileDistribution(out, 1000.0);
+			}
+		}
+	}
+
+	private static long toMicros(long nanos) {
+		return Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS);
+	}
+}
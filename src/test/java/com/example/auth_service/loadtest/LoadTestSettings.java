@@ -0,0 +1,70 @@
+package com.example.auth_service.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test knobs, read from {@code loadtest.*} system properties so they can
+ * be passed on the Maven command line, e.g.
+ * {@code ./mvnw -Pload-test test -Dloadtest.rate=500 -Dloadtest.concurrency=64}.
+ */
+record LoadTestSettings(
+		double rate,
+		int concurrency,
+		List<Integer> connections,
+		Duration warmup,
+		Duration duration,
+		Duration saturation,
+		int users,
+		Map<Operation, Integer> mix,
+		Path baseline,
+		Path reportDir,
+		double tolerance,
+		int minSamples,
+		double maxErrorRate,
+		boolean updateBaseline
+) {
+
+	static LoadTestSettings fromSystemProperties() {
+		return new LoadTestSettings(
+				Double.parseDouble(property("rate", "20")),
+				Integer.parseInt(property("concurrency", "32")),
+				parseConnections(property("connections", "64,256,1024")),
+				Duration.parse(property("warmup", "PT5S")),
+				Duration.parse(property("duration", "PT60S")),
+				Duration.parse(property("saturation", "PT20S")),
+				Integer.parseInt(property("users", "50")),
+				parseMix(property("mix", "me:55,refresh:20,login:10,logout:5,register:10")),
+				Path.of(property("baseline", "src/test/resources/loadtest/baseline.properties")),
+				Path.of(property("reportDir", "target/loadtest")),
+				Double.parseDouble(property("tolerance", "0.25")),
+				Integer.parseInt(property("minSamples", "100")),
+				Double.parseDouble(property("maxErrorRate", "0.01")),
+				Boolean.parseBoolean(property("updateBaseline", "false"))
+		);
+	}
+
+	private static String property(String name, String defaultValue) {
+		return System.getProperty("loadtest." + name, defaultValue);
+	}
+
+	private static List<Integer> parseConnections(String connections) {
+		return Arrays.stream(connections.split(","))
+				.map(String::trim)
+				.map(Integer::valueOf)
+				.toList();
+	}
+
+	private static Map<Operation, Integer> parseMix(String mix) {
+		Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+		for (String entry : mix.split(",")) {
+			String[] parts = entry.trim().split(":");
+			weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+		}
+		return weights;
+	}
+}
@@ -0,0 +1,9 @@
+package com.example.auth_service.loadtest;
+
+enum Operation {
+	REGISTER,
+	LOGIN,
+	REFRESH,
+	LOGOUT,
+	ME
+}
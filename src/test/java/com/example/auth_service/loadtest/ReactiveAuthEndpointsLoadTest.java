@@ -0,0 +1,34 @@
+package com.example.auth_service.loadtest;
+
+import com.example.auth_service.reactive.ReactiveAuthServiceApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+
+/**
+ * Same workload as {@link AuthEndpointsLoadTest} against the WebFlux + R2DBC
+ * variant, checked against its own baseline. The saturating side-by-side
+ * comparison of both stacks is {@link StackThroughputComparisonTest}.
+ */
+@ActiveProfiles("reactive")
+@SpringBootTest(
+		classes = ReactiveAuthServiceApplication.class,
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = {
+				"spring.main.web-application-type=reactive",
+				"logging.level.org.springframework=WARN"
+		}
+)
+class ReactiveAuthEndpointsLoadTest extends AuthEndpointsLoadTest {
+
+	@Override
+	protected String variant() {
+		return "reactive";
+	}
+
+	@Override
+	protected Path baselineFile() {
+		return settings.baseline().resolveSibling("baseline-reactive.properties");
+	}
+}
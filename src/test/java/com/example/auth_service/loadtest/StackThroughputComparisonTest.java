@@ -0,0 +1,209 @@
+package com.example.auth_service.loadtest;
+
+import com.example.auth_service.AuthServiceApplication;
+import com.example.auth_service.reactive.ReactiveAuthServiceApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saturating, closed-loop throughput comparison of the servlet and the
+ * WebFlux + R2DBC builds. Each variant is booted on its own (never both at
+ * once) and driven with {@code loadtest.connections} HTTP/1.1 connections,
+ * each sending the next authenticated {@code GET /api/users/me} as soon as the
+ * previous one completes. Throughput, p50 and p99 are printed side by side and
+ * written to {@code target/loadtest/throughput-comparison.txt}.
+ * <p>
+ * Run with {@code ./mvnw -Pload-test test -Dtest=StackThroughputComparisonTest
+ * -Dloadtest.connections=64,256,1024,4096}. Client and server share the JVM and
+ * its file descriptor limit, so raise {@code ulimit -n} above twice the largest
+ * connection count. Latencies here are per-request service times; use
+ * {@link AuthEndpointsLoadTest} for open-loop, corrected response times.
+ */
+@Tag("load")
+class StackThroughputComparisonTest {
+
+	private static final String PASSWORD = "comparison-password";
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+	private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void servletAndReactiveSideBySide() throws Exception {
+		Map<String, List<Result>> results = new LinkedHashMap<>();
+		results.put("servlet", sweep("servlet", new SpringApplicationBuilder(AuthServiceApplication.class)
+				.web(WebApplicationType.SERVLET)));
+		results.put("reactive", sweep("reactive", new SpringApplicationBuilder(ReactiveAuthServiceApplication.class)
+				.web(WebApplicationType.REACTIVE)
+				.profiles("reactive")));
+
+		String table = table(results);
+		System.out.println(table);
+		Files.createDirectories(settings.reportDir());
+		Files.writeString(settings.reportDir().resolve("throughput-comparison.txt"), table);
+
+		results.forEach((variant, runs) -> runs.forEach(run -> assertThat(run.errorRate())
+				.as("%s error rate at %d connections", variant, run.connections())
+				.isLessThanOrEqualTo(settings.maxErrorRate())));
+	}
+
+	private List<Result> sweep(String variant, SpringApplicationBuilder application) throws Exception {
+		try (ConfigurableApplicationContext context = application.run(
+				"--server.port=0",
+				"--spring.security.oauth2.client.registration.google.client-id=load-test",
+				"--spring.security.oauth2.client.registration.google.client-secret=load-test",
+				"--logging.level.org.springframework=WARN")) {
+			int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			HttpClient httpClient = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.connectTimeout(Duration.ofSeconds(10))
+					.build();
+
+			List<String> accessTokens = seedSessions(httpClient, port, variant);
+
+			List<Result> runs = new ArrayList<>();
+			for (int connections : settings.connections()) {
+				closedLoop(httpClient, port, accessTokens, connections, settings.warmup());
+				runs.add(closedLoop(httpClient, port, accessTokens, connections, settings.duration()));
+			}
+			return runs;
+		}
+	}
+
+	private List<String> seedSessions(HttpClient httpClient, int port, String variant)
+			throws IOException, InterruptedException {
+		List<String> accessTokens = new ArrayList<>(settings.users());
+		for (int i = 0; i < settings.users(); i++) {
+			String email = "compare-" + variant + "-" + System.nanoTime() + "-" + i + "@example.com";
+			HttpResponse<String> registered = post(httpClient, port, "/api/auth/register", """
+					{"email":"%s","password":"%s","fullName":"Load Test"}
+					""".formatted(email, PASSWORD));
+			HttpResponse<String> login = post(httpClient, port, "/api/auth/login", """
+					{"email":"%s","password":"%s"}
+					""".formatted(email, PASSWORD));
+			if (registered.statusCode() != 201 || login.statusCode() != 200) {
+				throw new IllegalStateException("Could not seed " + variant + " user " + email);
+			}
+			accessTokens.add(objectMapper.readTree(login.body()).get("accessToken").asText());
+		}
+		return accessTokens;
+	}
+
+	private Result closedLoop(HttpClient httpClient, int port, List<String> accessTokens, int connections,
+			Duration duration) throws InterruptedException {
+		Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+		AtomicLong errors = new AtomicLong();
+		CountDownLatch finished = new CountDownLatch(connections);
+		URI uri = URI.create("http://localhost:" + port + "/api/users/me");
+
+		long start = System.nanoTime();
+		long deadline = start + duration.toNanos();
+		for (int i = 0; i < connections; i++) {
+			HttpRequest request = HttpRequest.newBuilder(uri)
+					.header("Authorization", "Bearer " + accessTokens.get(i % accessTokens.size()))
+					.timeout(Duration.ofSeconds(30))
+					.GET()
+					.build();
+			sendUntil(httpClient, request, deadline, latencies, errors, finished);
+		}
+
+		if (!finished.await(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+			throw new IllegalStateException("Closed loop with " + connections + " connections did not drain");
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		return new Result(connections, latencies.getTotalCount() / seconds,
+				latencies.getValueAtPercentile(50) / 1000.0,
+				latencies.getValueAtPercentile(99) / 1000.0,
+				latencies.getTotalCount(), errors.get());
+	}
+
+	/** One connection of the closed loop: the next request goes out when the previous one completes. */
+	private void sendUntil(HttpClient httpClient, HttpRequest request, long deadline, Histogram latencies,
+			AtomicLong errors, CountDownLatch finished) {
+		long sendStart = System.nanoTime();
+		httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+				.whenComplete((response, failure) -> {
+					long now = System.nanoTime();
+					latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(now - sendStart),
+							HIGHEST_TRACKABLE_MICROS));
+					if (failure != null || response.statusCode() != 200) {
+						errors.incrementAndGet();
+					}
+					if (now < deadline) {
+						sendUntil(httpClient, request, deadline, latencies, errors, finished);
+					} else {
+						finished.countDown();
+					}
+				});
+	}
+
+	private HttpResponse<String> post(HttpClient httpClient, int port, String path, String json)
+			throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	private String table(Map<String, List<Result>> results) {
+		StringWriter buffer = new StringWriter();
+		PrintWriter out = new PrintWriter(buffer);
+		out.printf("%nGET /api/users/me, closed loop, %s per step%n", settings.duration());
+		out.printf("%11s", "connections");
+		results.keySet().forEach(variant -> out.printf(" | %10s %9s %9s %7s",
+				variant + " rps", "p50 ms", "p99 ms", "errors"));
+		out.println();
+
+		for (int i = 0; i < settings.connections().size(); i++) {
+			out.printf("%11d", settings.connections().get(i));
+			for (List<Result> runs : results.values()) {
+				Result run = runs.get(i);
+				out.printf(" | %10.0f %9.2f %9.2f %7d",
+						run.throughput(), run.p50Millis(), run.p99Millis(), run.errors());
+			}
+			out.println();
+		}
+		out.flush();
+		return buffer.toString();
+	}
+
+	private record Result(
+			int connections,
+			double throughput,
+			double p50Millis,
+			double p99Millis,
+			long completed,
+			long errors
+	) {
+
+		double errorRate() {
+			return (double) errors / Math.max(1, completed);
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.example.auth_service.reactive;
+
+import com.example.auth_service.dto.LoginRequest;
+import com.example.auth_service.dto.LoginResponse;
+import com.example.auth_service.dto.LogoutRequest;
+import com.example.auth_service.dto.RefreshTokenRequest;
+import com.example.auth_service.dto.RegisterRequest;
+import com.example.auth_service.reactive.repository.ReactiveUserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(
+		classes = ReactiveAuthServiceApplication.class,
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "spring.main.web-application-type=reactive"
+)
+class ReactiveAuthApiTests {
+
+	private static final String PASSWORD = "reactive-password";
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private ReactiveUserRepository userRepository;
+
+	@Test
+	void registerLoginRefreshAndLogout() {
+		String email = register();
+
+		LoginResponse login = login(email);
+		assertThat(login.tokenType()).isEqualTo("Bearer");
+		assertThat(login.refreshToken()).isNotBlank();
+
+		webTestClient.get().uri("/api/users/me")
+				.headers(headers -> headers.setBearerAuth(login.accessToken()))
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("Hello " + email);
+
+		LoginResponse refreshed = webTestClient.post().uri("/api/auth/refresh")
+				.bodyValue(new RefreshTokenRequest(login.refreshToken()))
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(LoginResponse.class)
+				.returnResult()
+				.getResponseBody();
+		assertThat(refreshed).isNotNull();
+		assertThat(refreshed.refreshToken()).isEqualTo(login.refreshToken());
+
+		webTestClient.get().uri("/api/users/me")
+				.headers(headers -> headers.setBearerAuth(refreshed.accessToken()))
+				.exchange()
+				.expectStatus().isOk();
+
+		webTestClient.post().uri("/api/auth/logout")
+				.bodyValue(new LogoutRequest(login.refreshToken()))
+				.exchange()
+				.expectStatus().isOk();
+
+		webTestClient.post().uri("/api/auth/refresh")
+				.bodyValue(new RefreshTokenRequest(login.refreshToken()))
+				.exchange()
+				.expectStatus().is5xxServerError();
+	}
+
+	@Test
+	void wrongPasswordIsUnauthorized() {
+		String email = register();
+
+		webTestClient.post().uri("/api/auth/login")
+				.bodyValue(new LoginRequest(email, "wrong-password"))
+				.exchange()
+				.expectStatus().isEqualTo(HttpStatus.UNAUTHORIZED);
+	}
+
+	@Test
+	void disabledAccountIsUnauthorized() {
+		String email = register();
+		userRepository.findByEmail(email)
+				.doOnNext(user -> user.setEnabled(false))
+				.flatMap(userRepository::save)
+				.block();
+
+		webTestClient.post().uri("/api/auth/login")
+				.bodyValue(new LoginRequest(email, PASSWORD))
+				.exchange()
+				.expectStatus().isEqualTo(HttpStatus.UNAUTHORIZED);
+	}
+
+	@Test
+	void unknownEmailIsUnauthorized() {
+		webTestClient.post().uri("/api/auth/login")
+				.bodyValue(new LoginRequest(uniqueEmail(), PASSWORD))
+				.exchange()
+				.expectStatus().isEqualTo(HttpStatus.UNAUTHORIZED);
+	}
+
+	@Test
+	void meWithoutTokenIsUnauthorized() {
+		webTestClient.get().uri("/api/users/me")
+				.exchange()
+				.expectStatus().isEqualTo(HttpStatus.UNAUTHORIZED);
+	}
+
+	@Test
+	void meWithInvalidTokenIsUnauthorized() {
+		webTestClient.get().uri("/api/users/me")
+				.headers(headers -> headers.setBearerAuth("not-a-jwt"))
+				.exchange()
+				.expectStatus().isEqualTo(HttpStatus.UNAUTHORIZED);
+	}
+
+	@Test
+	void unknownRefreshTokenIsRejected() {
+		webTestClient.post().uri("/api/auth/refresh")
+				.bodyValue(new RefreshTokenRequest(UUID.randomUUID().toString()))
+				.exchange()
+				.expectStatus().is5xxServerError();
+	}
+
+	private String register() {
+		String email = uniqueEmail();
+		webTestClient.post().uri("/api/auth/register")
+				.bodyValue(new RegisterRequest(email, PASSWORD, "Reactive User"))
+				.exchange()
+				.expectStatus().isCreated();
+		return email;
+	}
+
+	private LoginResponse login(String email) {
+		LoginResponse response = webTestClient.post().uri("/api/auth/login")
+				.bodyValue(new LoginRequest(email, PASSWORD))
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(LoginResponse.class)
+				.returnResult()
+				.getResponseBody();
+		assertThat(response).isNotNull();
+		return response;
+	}
+
+	private static String uniqueEmail() {
+		return "reactive-" + UUID.randomUUID() + "@example.com";
+	}
+}
@@ -0,0 +1,70 @@
+package com.example.auth_service.security;
+
+import com.example.auth_service.model.Role;
+import com.example.auth_service.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("unchecked")
+class JwtProviderTests {
+
+	private final User user = User.builder()
+			.id(1L)
+			.email("user@example.com")
+			.password("x")
+			.build();
+
+	JwtProviderTests() {
+		user.getRoles().add(Role.builder().id(1L).name("ROLE_USER").build());
+		user.getRoles().add(Role.builder().id(2L).name("ROLE_ADMIN").build());
+	}
+
+	@Test
+	void compactTokenIsSmallerAndDecodesToSameAuthorities() {
+		JwtProvider namesProvider = new JwtProvider(false, false);
+		JwtProvider compactProvider = new JwtProvider(true, false);
+
+		String namesToken = namesProvider.generateToken(user);
+		String compactToken = compactProvider.generateToken(user);
+
+		List<String> fromNames = namesProvider.parseClaims(namesToken)
+				.get(JwtProvider.ROLES_CLAIM, List.class);
+		List<GrantedAuthority> fromCompact = compactProvider.getCompactAuthorities(
+				compactProvider.parseClaims(compactToken)).orElseThrow();
+
+		assertThat(fromCompact)
+				.extracting(GrantedAuthority::getAuthority)
+				.containsExactlyInAnyOrderElementsOf(fromNames);
+		assertThat(namesProvider.getCompactAuthorities(namesProvider.parseClaims(namesToken))).isEmpty();
+		assertThat(compactToken.length()).isLessThan(namesToken.length());
+	}
+
+	@Test
+	void compactTokensRequireUserLookupUnlessTrustIsEnabled() {
+		JwtProvider compactOnly = new JwtProvider(true, false);
+		assertThat(compactOnly.getTrustedUserDetails(
+				compactOnly.parseClaims(compactOnly.generateToken(user)))).isEmpty();
+
+		JwtProvider trusting = new JwtProvider(true, true);
+		UserDetails principal = trusting.getTrustedUserDetails(
+				trusting.parseClaims(trusting.generateToken(user))).orElseThrow();
+
+		assertThat(principal.getUsername()).isEqualTo("user@example.com");
+		assertThat(principal.getAuthorities())
+				.extracting(GrantedAuthority::getAuthority)
+				.containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+	}
+
+	@Test
+	void roleNameTokensAreNeverTrusted() {
+		JwtProvider provider = new JwtProvider(false, true);
+
+		assertThat(provider.getTrustedUserDetails(
+				provider.parseClaims(provider.generateToken(user)))).isEmpty();
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.auth_service.security;
+
+import com.example.auth_service.model.Role;
+import com.example.auth_service.model.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Prints Authorization header size and the cost of turning a token back into
+ * authorities for the role-name and compact claim formats. Timing only, so it
+ * runs with the load tests ({@code ./mvnw -Pload-test test}); the format
+ * equivalence itself is covered by {@link JwtProviderTests}.
+ */
+@Tag("load")
+class JwtTokenFormatReportTests {
+
+	private static final int WARMUP = 20_000;
+	private static final int ITERATIONS = 50_000;
+
+	private final User user = User.builder()
+			.id(1L)
+			.email("report.user@example.com")
+			.password("x")
+			.build();
+
+	@Test
+	void printClaimsFormatReport() {
+		user.getRoles().add(Role.builder().id(1L).name("ROLE_USER").build());
+		user.getRoles().add(Role.builder().id(2L).name("ROLE_ADMIN").build());
+
+		JwtProvider namesProvider = new JwtProvider(false, false);
+		JwtProvider compactProvider = new JwtProvider(true, false);
+
+		String namesToken = namesProvider.generateToken(user);
+		String compactToken = compactProvider.generateToken(user);
+
+		double namesNanos = timePerParse(() -> authoritiesFromNames(namesProvider, namesToken));
+		double compactNanos = timePerParse(() -> compactProvider.getCompactAuthorities(
+				compactProvider.parseClaims(compactToken)));
+
+		System.out.printf("""
+				JWT claims format report (%d roles, %d iterations)
+				  format      header bytes   parse + authorities (us/op)
+				  role names  %12d   %10.2f
+				  compact     %12d   %10.2f
+				%n""",
+				user.getRoles().size(), ITERATIONS,
+				headerBytes(namesToken), namesNanos / 1_000,
+				headerBytes(compactToken), compactNanos / 1_000);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<GrantedAuthority> authoritiesFromNames(JwtProvider provider, String token) {
+		Claims claims = provider.parseClaims(token);
+		return ((List<String>) claims.get(JwtProvider.ROLES_CLAIM, List.class)).stream()
+				.<GrantedAuthority>map(SimpleGrantedAuthority::new)
+				.toList();
+	}
+
+	private static int headerBytes(String token) {
+		return ("Authorization: Bearer " + token).getBytes(StandardCharsets.US_ASCII).length;
+	}
+
+	private static double timePerParse(Runnable parse) {
+		for (int i = 0; i < WARMUP; i++) {
+			parse.run();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			parse.run();
+		}
+		return (System.nanoTime() - start) / (double) ITERATIONS;
+	}
+}
@@ -0,0 +1,156 @@
+package com.example.auth_service.service;
+
+import com.example.auth_service.security.TokenHashing;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the PostgreSQL migration and partition maintenance against a real
+ * database. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenPartitionPostgresTests {
+
+	private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private DriverManagerDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+	private YearMonth current;
+
+	@BeforeEach
+	void migrate() {
+		dataSource = new DriverManagerDataSource(
+				postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+		Flyway.configure()
+				.dataSource(dataSource)
+				.locations("classpath:db/migration/postgresql")
+				.cleanDisabled(false)
+				.load()
+				.clean();
+		Flyway.configure()
+				.dataSource(dataSource)
+				.locations("classpath:db/migration/postgresql")
+				.load()
+				.migrate();
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		current = YearMonth.now(ZoneOffset.UTC);
+	}
+
+	@Test
+	void migrationCreatesMonthlyPartitionsAndIndexes() {
+		assertThat(partitions()).containsExactlyInAnyOrder(
+				"refresh_tokens_default",
+				partition(current),
+				partition(current.plusMonths(1)),
+				partition(current.plusMonths(2)));
+
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT indexdef FROM pg_indexes WHERE indexname = 'idx_refresh_tokens_token_hash'", String.class))
+				.containsIgnoringCase("USING hash");
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT indexdef FROM pg_indexes WHERE indexname = 'idx_refresh_tokens_user'", String.class))
+				.containsIgnoringCase("INCLUDE (expiry_date, revoked)");
+	}
+
+	@Test
+	void maintenanceDropsWholeExpiredPartitionsAndKeepsLiveRows() {
+		Long userId = insertUser();
+		insertToken(userId, "expired", start(current).plusSeconds(3600));
+		insertToken(userId, "live", start(current.plusMonths(2)).plusSeconds(3600));
+
+		maintainAt(start(current.plusMonths(1)).plusSeconds(86_400));
+
+		assertThat(partitions()).containsExactlyInAnyOrder(
+				"refresh_tokens_default",
+				partition(current.plusMonths(1)),
+				partition(current.plusMonths(2)),
+				partition(current.plusMonths(3)));
+		assertThat(jdbcTemplate.queryForList("SELECT token_hash FROM refresh_tokens", String.class))
+				.containsExactly(TokenHashing.hash("live"));
+	}
+
+	@Test
+	void maintenanceEmptiesTheDefaultPartition() {
+		Long userId = insertUser();
+		// no partition covers either month yet, so both rows land in the default partition
+		insertToken(userId, "stale", start(current.minusMonths(1)).plusSeconds(3600));
+		insertToken(userId, "ahead", start(current.plusMonths(3)).plusSeconds(3600));
+		assertThat(partitionOf("stale")).isEqualTo("refresh_tokens_default");
+		assertThat(partitionOf("ahead")).isEqualTo("refresh_tokens_default");
+
+		maintainAt(start(current.plusMonths(1)).plusSeconds(86_400));
+
+		assertThat(partitions()).contains(partition(current.plusMonths(3)));
+		assertThat(partitionOf("ahead")).isEqualTo(partition(current.plusMonths(3)));
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_tokens_default", Integer.class))
+				.isZero();
+		assertThat(jdbcTemplate.queryForList("SELECT token_hash FROM refresh_tokens", String.class))
+				.containsExactly(TokenHashing.hash("ahead"));
+	}
+
+	private void maintainAt(Instant now) {
+		new RefreshTokenPartitionService(
+				jdbcTemplate,
+				new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+				2,
+				Clock.fixed(now, ZoneOffset.UTC)
+		).maintain();
+	}
+
+	private Long insertUser() {
+		return jdbcTemplate.queryForObject(
+				"INSERT INTO users (email, password) VALUES ('user@example.com', 'x') RETURNING id", Long.class);
+	}
+
+	private String partitionOf(String token) {
+		return jdbcTemplate.queryForObject(
+				"SELECT tableoid::regclass::text FROM refresh_tokens WHERE token_hash = ?",
+				String.class, TokenHashing.hash(token));
+	}
+
+	private void insertToken(Long userId, String token, Instant expiry) {
+		jdbcTemplate.update(
+				"INSERT INTO refresh_tokens (token_hash, user_id, expiry_date) VALUES (?, ?, ?)",
+				TokenHashing.hash(token), userId, Timestamp.from(expiry));
+	}
+
+	private List<String> partitions() {
+		return jdbcTemplate.queryForList("""
+				SELECT c.relname
+				FROM pg_inherits i
+				JOIN pg_class c ON c.oid = i.inhrelid
+				JOIN pg_class p ON p.oid = i.inhparent
+				WHERE p.relname = 'refresh_tokens'
+				""", String.class);
+	}
+
+	private static String partition(YearMonth month) {
+		return "refresh_tokens_p" + month.format(SUFFIX);
+	}
+
+	private static Instant start(YearMonth month) {
+		return month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,120 @@
+package com.example.auth_service.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenPartitionServiceTests {
+
+	private static final Instant NOW = Instant.parse("2026-10-18T03:15:00Z");
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+	@Test
+	void createsCurrentAndUpcomingMonths() {
+		RefreshTokenPartitionService service = service(NOW, true);
+
+		assertThat(service.monthsToCreate()).containsExactly(
+				YearMonth.of(2026, 10), YearMonth.of(2026, 11), YearMonth.of(2026, 12));
+	}
+
+	@Test
+	void selectsOnlyPartitionsWhoseWholeRangeHasPassed() {
+		RefreshTokenPartitionService service = service(NOW, true);
+
+		assertThat(service.expiredPartitions(List.of(
+				"refresh_tokens_default",
+				"refresh_tokens_p2026_08",
+				"refresh_tokens_p2026_09",
+				"refresh_tokens_p2026_10",
+				"refresh_tokens_p2026_11",
+				"unrelated_p2020_01"
+		))).containsExactly("refresh_tokens_p2026_08", "refresh_tokens_p2026_09");
+	}
+
+	@Test
+	void partitionIsExpiredExactlyAtItsUpperBound() {
+		List<String> partitions = List.of("refresh_tokens_p2026_09");
+
+		assertThat(service(Instant.parse("2026-09-30T23:59:59.999Z"), true).expiredPartitions(partitions)).isEmpty();
+		assertThat(service(Instant.parse("2026-10-01T00:00:00Z"), true).expiredPartitions(partitions))
+				.containsExactly("refresh_tokens_p2026_09");
+	}
+
+	@Test
+	void maintainPurgesDefaultCreatesMissingPartitionsAndDropsExpiredOnes() {
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+				.thenReturn(List.of("refresh_tokens_default", "refresh_tokens_p2026_09", "refresh_tokens_p2026_10"));
+
+		service(NOW, true).maintain();
+
+		InOrder order = inOrder(jdbcTemplate);
+		order.verify(jdbcTemplate).update("DELETE FROM refresh_tokens_default WHERE expiry_date < ?", Timestamp.from(NOW));
+		order.verify(jdbcTemplate).execute("CREATE TABLE refresh_tokens_p2026_11"
+				+ " (LIKE refresh_tokens INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+		order.verify(jdbcTemplate).update(
+				"WITH moved AS (DELETE FROM refresh_tokens_default WHERE expiry_date >= ? AND expiry_date < ? RETURNING *)"
+						+ " INSERT INTO refresh_tokens_p2026_11 SELECT * FROM moved",
+				Timestamp.from(Instant.parse("2026-11-01T00:00:00Z")), Timestamp.from(Instant.parse("2026-12-01T00:00:00Z")));
+		order.verify(jdbcTemplate).execute("ALTER TABLE refresh_tokens ATTACH PARTITION refresh_tokens_p2026_11"
+				+ " FOR VALUES FROM ('2026-11-01T00:00:00Z') TO ('2026-12-01T00:00:00Z')");
+		order.verify(jdbcTemplate).execute("CREATE TABLE refresh_tokens_p2026_12"
+				+ " (LIKE refresh_tokens INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+		order.verify(jdbcTemplate).execute("ALTER TABLE refresh_tokens DETACH PARTITION refresh_tokens_p2026_09");
+		order.verify(jdbcTemplate).execute("DROP TABLE refresh_tokens_p2026_09");
+
+		// existing partitions are left alone
+		verify(jdbcTemplate, never()).execute(startsWith("CREATE TABLE refresh_tokens_p2026_10"));
+		verify(jdbcTemplate, never()).execute("DROP TABLE refresh_tokens_p2026_10");
+		verify(jdbcTemplate, never()).execute("DROP TABLE refresh_tokens_default");
+	}
+
+	@Test
+	void failedCreateDoesNotStopTheDrop() {
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+				.thenReturn(List.of("refresh_tokens_default", "refresh_tokens_p2026_09"));
+		doThrow(new DataIntegrityViolationException("default partition holds rows in range"))
+				.when(jdbcTemplate).execute(startsWith("ALTER TABLE refresh_tokens ATTACH PARTITION"));
+
+		service(NOW, true).maintain();
+
+		verify(jdbcTemplate).execute(startsWith("ALTER TABLE refresh_tokens ATTACH PARTITION refresh_tokens_p2026_10"));
+		verify(jdbcTemplate).execute(startsWith("ALTER TABLE refresh_tokens ATTACH PARTITION refresh_tokens_p2026_12"));
+		verify(jdbcTemplate).execute("DROP TABLE refresh_tokens_p2026_09");
+	}
+
+	@Test
+	void unpartitionedDatabasesPurgeExpiredRows() {
+		service(NOW, false).maintain();
+
+		verify(jdbcTemplate).update("DELETE FROM refresh_tokens WHERE expiry_date < ?", Timestamp.from(NOW));
+		verify(jdbcTemplate, never()).execute(anyString());
+	}
+
+	private RefreshTokenPartitionService service(Instant now, boolean partitioned) {
+		return new RefreshTokenPartitionService(jdbcTemplate, transactionTemplate, 2, Clock.fixed(now, ZoneOffset.UTC),
+				partitioned);
+	}
+}